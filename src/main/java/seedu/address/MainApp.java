@@ -2,6 +2,7 @@ package seedu.address;
 
 import static seedu.address.model.Model.PREDICATE_SHOW_NOT_HIDDEN;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
@@ -18,18 +19,27 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CachedXmlAddressBookStorage;
+import seedu.address.storage.Compression;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SectionedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -65,8 +75,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveDelay(),
+                config.getMaxSaveDelay());
 
         initLogging(config);
 
@@ -74,13 +85,93 @@ public class MainApp extends Application {
         model.sortList(sortByName);
         model.updateFilteredPersonList(PREDICATE_SHOW_NOT_HIDDEN);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, initUndoRedoStack(config));
 
         ui = new UiManager(logic, config, userPrefs, model);
 
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the storage format in {@code userPrefs}.
+     * The xml format will be used if the format is not known.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        String filePath = userPrefs.getAddressBookFilePath();
+        String format = userPrefs.getAddressBookStorageFormat();
+        Compression compression = initCompression(userPrefs);
+        if (JournaledAddressBookStorage.STORAGE_FORMAT.equals(format)) {
+            return new JournaledAddressBookStorage(filePath, compression);
+        }
+        if (BinaryAddressBookStorage.STORAGE_FORMAT.equals(format)) {
+            return initConvertedAddressBookStorage(filePath, new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.getSnapshotFilePath(filePath), compression));
+        }
+        if (SectionedAddressBookStorage.STORAGE_FORMAT.equals(format)) {
+            return initConvertedAddressBookStorage(filePath, new SectionedAddressBookStorage(
+                    SectionedAddressBookStorage.getManifestFilePath(filePath), compression));
+        }
+        if (JsonAddressBookStorage.STORAGE_FORMAT.equals(format)) {
+            return initConvertedAddressBookStorage(filePath, new JsonAddressBookStorage(
+                    JsonAddressBookStorage.getJsonFilePath(filePath), compression));
+        }
+        if (!XmlAddressBookStorage.STORAGE_FORMAT.equals(format)) {
+            logger.warning("Unknown AddressBook storage format " + format + ". Using the xml format");
+        }
+        return new CachedXmlAddressBookStorage(filePath, compression);
+    }
+
+    /**
+     * Returns the {@code UndoRedoStack} with the undo history limit and budget in {@code config}.
+     * The default limit or budget will be used instead of one that is not valid.
+     */
+    private UndoRedoStack initUndoRedoStack(Config config) {
+        int undoHistoryLimit = config.getUndoHistoryLimit();
+        if (undoHistoryLimit <= 0) {
+            logger.warning("Invalid undo history limit " + undoHistoryLimit + ". Using the default limit "
+                    + UndoRedoStack.DEFAULT_MAX_ENTRIES);
+            undoHistoryLimit = UndoRedoStack.DEFAULT_MAX_ENTRIES;
+        }
+        long undoHistoryBudget = config.getUndoHistoryBudget();
+        if (undoHistoryBudget < 0) {
+            logger.warning("Invalid undo history budget " + undoHistoryBudget + ". Using the default budget "
+                    + UndoRedoStack.DEFAULT_MAX_FOOTPRINT);
+            undoHistoryBudget = UndoRedoStack.DEFAULT_MAX_FOOTPRINT;
+        }
+        return new UndoRedoStack(undoHistoryLimit, undoHistoryBudget);
+    }
+
+    /**
+     * Returns the {@code Compression} the AddressBook files are written with, as set in {@code userPrefs}.
+     * The files will not be compressed if the compression is not valid.
+     */
+    private Compression initCompression(UserPrefs userPrefs) {
+        try {
+            return Compression.fromName(userPrefs.getAddressBookCompression(),
+                    userPrefs.getAddressBookCompressionLevel());
+        } catch (IllegalValueException e) {
+            logger.warning(e.getMessage() + ". AddressBook files will not be compressed");
+            return Compression.NONE;
+        }
+    }
+
+    /**
+     * Returns {@code storage}, which keeps its data next to the xml file at {@code xmlFilePath}.
+     * If it has no data yet, the xml file is converted into it, so that switching to its format
+     * keeps the existing data.
+     */
+    private AddressBookStorage initConvertedAddressBookStorage(String xmlFilePath, AddressBookStorage storage) {
+        if (!new File(storage.getAddressBookFilePath()).exists() && new File(xmlFilePath).exists()) {
+            try {
+                AddressBookFileConverter.convert(new XmlAddressBookStorage(xmlFilePath), storage);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not convert " + xmlFilePath + " to " + storage.getAddressBookFilePath()
+                        + ": " + e);
+            }
+        }
+        return storage;
+    }
+
     private String getApplicationParameter(String parameterName) {
         Map<String, String> applicationParameters = getParameters().getNamed();
         return applicationParameters.get(parameterName);
@@ -202,6 +293,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Bluebird ] =============================");
         ui.stop();
+        storage.flushAddressBook();
+        storage.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
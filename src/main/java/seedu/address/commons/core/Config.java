@@ -14,6 +14,10 @@ public class Config {
     private String appTitle = "Bluebird";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private int undoHistoryLimit = 100;
+    private long undoHistoryBudget = 8 * 1024 * 1024;
+    private long saveDelay = 300;
+    private long maxSaveDelay = 2000;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +43,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public long getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    public void setUndoHistoryBudget(long undoHistoryBudget) {
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
+    public long getSaveDelay() {
+        return saveDelay;
+    }
+
+    public void setSaveDelay(long saveDelay) {
+        this.saveDelay = saveDelay;
+    }
+
+    public long getMaxSaveDelay() {
+        return maxSaveDelay;
+    }
+
+    public void setMaxSaveDelay(long maxSaveDelay) {
+        this.maxSaveDelay = maxSaveDelay;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +88,17 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryBudget == o.undoHistoryBudget
+                && saveDelay == o.saveDelay
+                && maxSaveDelay == o.maxSaveDelay;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, undoHistoryLimit, undoHistoryBudget, saveDelay,
+                maxSaveDelay);
     }
 
     @Override
@@ -66,6 +107,10 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history budget (bytes) : " + undoHistoryBudget);
+        sb.append("\nSave delay (ms) : " + saveDelay);
+        sb.append("\nMax save delay (ms) : " + maxSaveDelay);
         return sb.toString();
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -8,16 +9,24 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class AddressBookChangedEvent extends BaseEvent {
 
+    /** The changed data, which should not change any further, as it may be read on other threads. */
     public final ReadOnlyAddressBook data;
+    /** The changes made since the previous event, or null if they are not known. */
+    public final AddressBookDelta delta;
 
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, null);
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, AddressBookDelta delta) {
         this.data = data;
+        this.delta = delta;
     }
 
     @Override
     public String toString() {
         return "number of persons " + data.getPersonList().size() + ", number of tags " + data.getTagList().size()
                 + ", number of aliases " + data.getAliasTokenList().size() + ", number of tasks "
-                + data.getTaskList().size();
+                + data.getTaskList().size() + (delta == null ? "" : ", number of changes " + delta.size());
     }
 }
@@ -4,17 +4,27 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * Helps with reading from and writing to XML files.
  */
 public class XmlUtil {
 
+    // creating a JAXBContext is expensive, so the contexts for fragments are reused
+    private static final Map<Class<?>, JAXBContext> fragmentContexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -67,4 +77,44 @@ public class XmlUtil {
         m.marshal(data, file);
     }
 
+    /**
+     * Returns {@code data} as a single XML element named {@code elementName}, without an XML declaration.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> String toXmlFragment(T data, Class<T> type, String elementName) throws JAXBException {
+        requireNonNull(data);
+        requireNonNull(type);
+        requireNonNull(elementName);
+
+        Marshaller m = getFragmentContext(type).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+        StringWriter writer = new StringWriter();
+        m.marshal(new JAXBElement<>(new QName(elementName), type, data), writer);
+        return writer.toString();
+    }
+
+    /**
+     * Returns the XML element in {@code xml} as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if {@code xml} does not have the correct format.
+     */
+    public static <T> T fromXmlFragment(String xml, Class<T> type) throws JAXBException {
+        requireNonNull(xml);
+        requireNonNull(type);
+
+        Unmarshaller um = getFragmentContext(type).createUnmarshaller();
+        return um.unmarshal(new StreamSource(new StringReader(xml)), type).getValue();
+    }
+
+    private static JAXBContext getFragmentContext(Class<?> type) throws JAXBException {
+        JAXBContext context = fragmentContexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            fragmentContexts.put(type, context);
+        }
+        return context;
+    }
+
 }
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -7,6 +9,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.TaskTimeIndex;
 
 /**
  * API of the Logic component
@@ -22,6 +25,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single batch and returns the result. All the commands are parsed before any is
+     * executed, in the current mode. They are then executed in order as one change to the AddressBook, which is
+     * saved once and undone as a whole. If a command fails, the changes of the commands before it are reverted.
+     * Blank lines are skipped.
+     *
+     * @param commandTexts The commands, one per line.
+     * @return the result of the batch.
+     * @throws CommandException If an error occurs during the execution of a command.
+     * @throws ParseException   If any of the commands cannot be parsed, listing every such command by line.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns an unmodifiable view of the filtered list of persons
      */
@@ -37,6 +53,11 @@ public interface Logic {
      */
     ObservableList<ReadOnlyTask> getFilteredTaskList();
 
+    /**
+     * Returns the time index over all tasks, for looking up overdue and upcoming tasks
+     */
+    TaskTimeIndex getTaskTimeIndex();
+
     /**
      * Returns true if first token of user input is a valid command word
      */
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -9,10 +11,12 @@ import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AliasTokenChangedEvent;
 import seedu.address.commons.events.model.ModelToggleEvent;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.RunCommandParser;
 import seedu.address.logic.parser.alias.AliasCommandParser;
 import seedu.address.logic.parser.alias.UnaliasCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -25,11 +29,13 @@ import seedu.address.logic.parser.person.HideCommandParser;
 import seedu.address.logic.parser.person.PinCommandParser;
 import seedu.address.logic.parser.person.RemarkCommandParser;
 import seedu.address.logic.parser.person.SelectCommandParser;
+import seedu.address.logic.parser.person.ShowBirthdaysCommandParser;
 import seedu.address.logic.parser.person.SortCommandParser;
 import seedu.address.logic.parser.person.UnhideCommandParser;
 import seedu.address.logic.parser.person.UnpinCommandParser;
 import seedu.address.logic.parser.task.AddTaskCommandParser;
 import seedu.address.logic.parser.task.DeleteTaskCommandParser;
+import seedu.address.logic.parser.task.DueTaskCommandParser;
 import seedu.address.logic.parser.task.FindTaskCommandParser;
 import seedu.address.logic.parser.task.MarkTaskCommandParser;
 import seedu.address.logic.parser.task.RenameTaskCommandParser;
@@ -39,6 +45,7 @@ import seedu.address.model.Model;
 import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.TaskTimeIndex;
 
 /**
  * The main LogicManager of the app.
@@ -52,14 +59,17 @@ public class LogicManager extends ComponentManager implements Logic {
     private final UndoRedoStack undoRedoStack;
 
     public LogicManager(Model model) {
+        this(model, new UndoRedoStack());
+    }
+
+    public LogicManager(Model model, UndoRedoStack undoRedoStack) {
         this.model = model;
         this.history = new CommandHistory();
-        this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.addressBookParser = new AddressBookParser(model.getAddressBook().getAliasTokenList());
+        this.undoRedoStack = undoRedoStack;
 
         registerAllDefaultCommandParsers();
         registerAllOtherCommands();
-        loadAllAliasTokens();
     }
 
     @Override
@@ -71,12 +81,48 @@ public class LogicManager extends ComponentManager implements Logic {
             command.setLogic(this);
             CommandResult result = command.execute();
             undoRedoStack.push(command);
+            logger.fine("Undo history: " + undoRedoStack.getUndoCount() + " commands, about "
+                    + undoRedoStack.getFootprint() + " bytes");
             return result;
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH][" + commandTexts.size() + " lines]");
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i);
+            if (commandText.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                if (!BatchCommand.canBatch(command)) {
+                    throw new ParseException(BatchCommand.MESSAGE_NOT_IN_BATCH);
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                errors.add(String.format(BatchCommand.MESSAGE_LINE_ERROR, i + 1, pe.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.join("\n", errors));
+        }
+
+        BatchCommand batch = new BatchCommand(commands, lineNumbers);
+        batch.setData(model, history, undoRedoStack);
+        batch.setLogic(this);
+        CommandResult result = batch.execute();
+        undoRedoStack.push(batch);
+        return result;
+    }
+
     //@@author deep4k
 
     /**
@@ -97,6 +143,7 @@ public class LogicManager extends ComponentManager implements Logic {
         addressBookParser.registerCommandParser(new PinCommandParser());
         addressBookParser.registerCommandParser(new UnpinCommandParser());
         addressBookParser.registerCommandParser(new FindPinnedCommandParser());
+        addressBookParser.registerCommandParser(new ShowBirthdaysCommandParser());
         addressBookParser.registerCommandParser(new AddTaskCommandParser());
         addressBookParser.registerCommandParser(new DeleteTaskCommandParser());
         addressBookParser.registerCommandParser(new FindTaskCommandParser());
@@ -104,6 +151,8 @@ public class LogicManager extends ComponentManager implements Logic {
         addressBookParser.registerCommandParser(new UnmarkTaskCommandParser());
         addressBookParser.registerCommandParser(new RenameTaskCommandParser());
         addressBookParser.registerCommandParser(new RescheduleTaskCommandParser());
+        addressBookParser.registerCommandParser(new DueTaskCommandParser());
+        addressBookParser.registerCommandParser(new RunCommandParser());
     }
 
     /**
@@ -114,32 +163,13 @@ public class LogicManager extends ComponentManager implements Logic {
     }
 
     /**
-     * Loads existing aliases in model into addressBookParser
+     * The parser follows the model's list of alias tokens itself, including the changes made by undo and redo,
+     * which raise no event, so alias changes are only logged here.
      */
-    private void loadAllAliasTokens() {
-        ObservableList<ReadOnlyAliasToken> allAliasTokens = model.getAddressBook().getAliasTokenList();
-        for (ReadOnlyAliasToken token : allAliasTokens) {
-            addressBookParser.addAliasToken(token);
-        }
-    }
-
     @Subscribe
     public void handleAliasTokenChangedEvent(AliasTokenChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(
-                event, "Alias " + event.getAction().toString().toLowerCase()));
-        if (event.getAction().equals(AliasTokenChangedEvent.Action.Added)) {
-            logAliasChangeForParser(
-                    addressBookParser.addAliasToken(event.getToken()),
-                    event.getToken(),
-                    "Successfully added AliasToken %s to main parser",
-                    "Failed to add AliasToken '%s' to parser");
-        } else if (event.getAction().equals(AliasTokenChangedEvent.Action.Removed)) {
-            logAliasChangeForParser(
-                    addressBookParser.removeAliasToken(event.getToken()),
-                    event.getToken(),
-                    "Successfully removed AliasToken '%s' from parser",
-                    "Failed to removed AliasToken '%s' from parser");
-        }
+                event, "Alias " + event.getAction().toString().toLowerCase() + ": " + event.getToken()));
     }
 
     @Subscribe
@@ -173,21 +203,6 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
-    /**
-     * Enter result of changed AliasToken with the logger into the main parser.
-     *
-     * @param messageSuccessful The String to be input if the operation is a success
-     * @param messageFailure    The String to be input if the operation is a failure
-     */
-    private void logAliasChangeForParser(boolean isSuccessful, ReadOnlyAliasToken tokenChanged,
-                                         String messageSuccessful, String messageFailure) {
-        if (isSuccessful) {
-            logger.info(String.format(messageSuccessful, tokenChanged));
-        } else {
-            logger.warning(String.format(messageFailure, tokenChanged));
-        }
-    }
-
     /**
      * Enter result of changed ModelToggle with the logger into the main parser.
      *
@@ -224,6 +239,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredTaskList();
     }
 
+    @Override
+    public TaskTimeIndex getTaskTimeIndex() {
+        return model.getTaskTimeIndex();
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
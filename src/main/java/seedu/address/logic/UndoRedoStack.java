@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Stack;
 
 import seedu.address.logic.commands.Command;
@@ -10,14 +12,34 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ * <p>
+ * The undo-stack has a budget of commands and of the estimated memory held to undo them. When either is
+ * exceeded, the oldest commands are dropped from the bottom of the undo-stack; the latest command is always kept.
  */
 public class UndoRedoStack {
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+    public static final long DEFAULT_MAX_FOOTPRINT = 8 * 1024 * 1024;
+
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
+    private final int maxEntries;
+    private final long maxFootprint;
 
     public UndoRedoStack() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_FOOTPRINT);
+    }
+
+    /**
+     * Creates an UndoRedoStack that keeps at most {@code maxEntries} commands on the undo-stack,
+     * holding at most about {@code maxFootprint} bytes.
+     */
+    public UndoRedoStack(int maxEntries, long maxFootprint) {
+        checkArgument(maxEntries > 0, "The undo history must hold at least one command");
+        checkArgument(maxFootprint >= 0, "The undo history budget cannot be negative");
         undoStack = new Stack<>();
         redoStack = new Stack<>();
+        this.maxEntries = maxEntries;
+        this.maxFootprint = maxFootprint;
     }
 
     /**
@@ -34,6 +56,17 @@ public class UndoRedoStack {
         }
 
         undoStack.add((UndoableCommand) command);
+        evictOldestOverBudget();
+    }
+
+    /**
+     * Drops the oldest commands from the undo-stack until it fits in the budget, keeping at least the latest one.
+     */
+    private void evictOldestOverBudget() {
+        long footprint = getFootprint();
+        while (undoStack.size() > 1 && (undoStack.size() > maxEntries || footprint > maxFootprint)) {
+            footprint -= undoStack.remove(0).getFootprint();
+        }
     }
 
     /**
@@ -68,6 +101,27 @@ public class UndoRedoStack {
         return !redoStack.empty();
     }
 
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    public int getUndoCount() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns an estimate of the memory held to undo and redo the commands in the stacks, in bytes.
+     */
+    public long getFootprint() {
+        long footprint = 0;
+        for (UndoableCommand command : undoStack) {
+            footprint += command.getFootprint();
+        }
+        for (UndoableCommand command : redoStack) {
+            footprint += command.getFootprint();
+        }
+        return footprint;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.Logic;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.person.ListAliasCommand;
+import seedu.address.model.Model;
+
+/**
+ * Executes a batch of already parsed commands as a single command, which is undone and redone as a whole.
+ * <p>
+ * Like any {@code UndoableCommand}, the batch announces its changes in a single event, so the AddressBook is
+ * saved once after the whole batch. If a command of the batch fails, the batch fails, and the changes made by the
+ * commands before it are reverted before that event, so the batch either makes all its changes or none of them.
+ */
+public class BatchCommand extends UndoableCommand {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands.";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_BATCH_FAILED = "%1$s\nNo changes were made.";
+    public static final String MESSAGE_NOT_IN_BATCH = "This command cannot be run in a batch.";
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+    private Logic logic;
+
+    /**
+     * Creates a BatchCommand to execute {@code commands} in order. {@code lineNumbers} are the line numbers of the
+     * commands, used to report a failed command.
+     */
+    public BatchCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireAllNonNull(commands, lineNumbers);
+        if (commands.size() != lineNumbers.size()) {
+            throw new IllegalArgumentException("Every command needs a line number");
+        }
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+    }
+
+    /**
+     * Returns true if {@code command} can be part of a batch. Commands that work on the undo history, that run
+     * batches themselves, that exit the application, or that switch between the views and modes of the
+     * application, cannot.
+     */
+    public static boolean canBatch(Command command) {
+        return !(command instanceof UndoCommand || command instanceof RedoCommand || command instanceof RunCommand
+                || command instanceof BatchCommand || command instanceof ExitCommand
+                || command instanceof EnableTaskCommand || command instanceof EnablePersonCommand
+                || command instanceof ParentModeCommand || command instanceof DisableParentModeCommand
+                || command instanceof ListAliasCommand);
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
+        this.model = model;
+        this.history = history;
+        this.undoRedoStack = undoRedoStack;
+    }
+
+    @Override
+    public void setLogic(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            command.setData(model, history, undoRedoStack);
+            if (logic != null) {
+                command.setLogic(logic);
+            }
+            try {
+                command.execute();
+            } catch (CommandException ce) {
+                String lineError = String.format(MESSAGE_LINE_ERROR, lineNumbers.get(i), ce.getMessage());
+                throw new CommandException(String.format(MESSAGE_BATCH_FAILED, lineError));
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands)
+                && lineNumbers.equals(((BatchCommand) other).lineNumbers));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands in a file, one per line, as a single batch.
+ *
+ * @see Logic#executeBatch(List)
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "All the commands are checked before any is run, and they are undone together.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " contacts.txt";
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s";
+
+    private final String filePath;
+    private Logic logic;
+
+    public RunCommand(String filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public void setLogic(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(logic);
+        List<String> commandTexts;
+        try {
+            commandTexts = Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath));
+        }
+
+        try {
+            return logic.executeBatch(commandTexts);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath));
+    }
+}
@@ -5,23 +5,41 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_NOT_HIDDEN;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.AddressBookDelta;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
+    private AddressBookDelta delta;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Executes the command, recording the changes it makes to {@code model#addressBook} so that they can be undone.
+     * If the command fails, the changes it made before failing are reverted.
+     * The command runs as a batch of the model, so that its changes, and their revert if it fails, are announced
+     * in a single {@code AddressBookChangedEvent}.
      */
-    private void saveAddressBookSnapshot() {
+    private CommandResult executeAndRecordDelta() throws CommandException {
         requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+        model.beginBatch();
+        try {
+            delta = model.beginDelta();
+            boolean isFailed = true;
+            try {
+                CommandResult result = executeUndoableCommand();
+                isFailed = false;
+                return result;
+            } finally {
+                model.endDelta(delta);
+                if (isFailed && !delta.isEmpty()) {
+                    model.revertDelta(delta);
+                }
+            }
+        } finally {
+            model.endBatch();
+        }
     }
 
     /**
@@ -30,8 +48,8 @@ public abstract class UndoableCommand extends Command {
      * show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireAllNonNull(model, delta);
+        model.revertDelta(delta);
         model.updateFilteredPersonList(PREDICATE_SHOW_NOT_HIDDEN);
     }
 
@@ -42,7 +60,7 @@ public abstract class UndoableCommand extends Command {
     protected final void redo() {
         requireNonNull(model);
         try {
-            executeUndoableCommand();
+            executeAndRecordDelta();
         } catch (CommandException ce) {
             throw new AssertionError("The command has been successfully executed previously; "
                     + "it should not fail now");
@@ -50,9 +68,15 @@ public abstract class UndoableCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_NOT_HIDDEN);
     }
 
+    /**
+     * Returns an estimate of the memory held to undo this command, in bytes.
+     */
+    public long getFootprint() {
+        return delta == null ? 0 : delta.getFootprint();
+    }
+
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
-        return executeUndoableCommand();
+        return executeAndRecordDelta();
     }
 }
@@ -52,10 +52,8 @@ public class AliasCommand extends UndoableCommand {
     public CommandResult executeUndoableCommand() throws CommandException {
         requireNonNull(model);
 
-        for (ReadOnlyAliasToken token : model.getAddressBook().getAliasTokenList()) {
-            if (token.getKeyword().keyword.equals(toAdd.getKeyword().keyword)) {
-                throw new CommandException(MESSAGE_DUPLICATE_ALIAS);
-            }
+        if (model.getAliasTokenMap().containsKey(toAdd.getKeyword())) {
+            throw new CommandException(MESSAGE_DUPLICATE_ALIAS);
         }
 
         if ((logic != null) && (logic.isCommandWord(toAdd.getKeyword().keyword))) {
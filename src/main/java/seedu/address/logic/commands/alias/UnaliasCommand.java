@@ -43,12 +43,7 @@ public class UnaliasCommand extends UndoableCommand {
     public CommandResult executeUndoableCommand() throws CommandException {
         requireNonNull(model);
 
-        for (ReadOnlyAliasToken token : model.getAddressBook().getAliasTokenList()) {
-            if (token.getKeyword().keyword.equalsIgnoreCase(keyword.keyword)) {
-                toRemove = token;
-                break;
-            }
-        }
+        toRemove = model.getAliasTokenMap().get(keyword);
         try {
             if (toRemove == null) {
                 throw new CommandException(MESSAGE_UNKNOWN_ALIAS);
@@ -49,17 +49,22 @@ public class DeleteCommand extends UndoableCommand {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
         }
-        for (Index targetIndex : targetIndices) {
-            List<ReadOnlyPerson> lastShownList = model.getFilteredPersonList();
-            ReadOnlyPerson personToDelete = lastShownList.get(targetIndex.getZeroBased() - counter);
-            personsToDelete.add(personToDelete);
+        model.beginBatch();
+        try {
+            for (Index targetIndex : targetIndices) {
+                List<ReadOnlyPerson> lastShownList = model.getFilteredPersonList();
+                ReadOnlyPerson personToDelete = lastShownList.get(targetIndex.getZeroBased() - counter);
+                personsToDelete.add(personToDelete);
 
-            try {
-                model.deletePerson(personToDelete);
-            } catch (PersonNotFoundException pnfe) {
-                assert false : "The target person cannot be missing";
+                try {
+                    model.deletePerson(personToDelete);
+                } catch (PersonNotFoundException pnfe) {
+                    assert false : "The target person cannot be missing";
+                }
+                counter++;
             }
-            counter++;
+        } finally {
+            model.endBatch();
         }
         StringBuilder builder = new StringBuilder();
         for (ReadOnlyPerson toAppend : personsToDelete) {
@@ -29,7 +29,7 @@ public class FindCommand extends Command {
     //@@author aziziazfar
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.findPersons(predicate);
         EventsCenter.getInstance().post(new ListSizeEvent(model.getFilteredPersonList().size()));
         EventsCenter.getInstance().post(new ToggleListAllStyleEvent());
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.person;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -47,25 +48,26 @@ public class SelectCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        for (ReadOnlyPerson person : lastShownList) {
-            try {
-                model.deselectPerson(person);
-            } catch (PersonNotFoundException pnfe) {
-                assert false : "The target person cannot be missing";
+        // deselecting every shown person and selecting the target is saved once
+        model.beginBatch();
+        try {
+            for (ReadOnlyPerson person : new ArrayList<>(lastShownList)) {
+                if (person.isSelected()) {
+                    model.deselectPerson(person);
+                }
             }
 
-        }
-
-        ReadOnlyPerson personToSelect = lastShownList.get(targetIndex.getZeroBased());
+            ReadOnlyPerson personToSelect = lastShownList.get(targetIndex.getZeroBased());
 
-        if (personToSelect.isSelected()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_ALREADY_SELECTED);
-        }
+            if (personToSelect.isSelected()) {
+                throw new CommandException(Messages.MESSAGE_PERSON_ALREADY_SELECTED);
+            }
 
-        try {
             model.selectPerson(personToSelect);
         } catch (PersonNotFoundException pnfe) {
             assert false : "The target person cannot be missing";
+        } finally {
+            model.endBatch();
         }
 
         EventsCenter.getInstance().post(new JumpToListRequestEvent(targetIndex));
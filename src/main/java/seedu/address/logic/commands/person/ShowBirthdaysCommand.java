@@ -1,12 +1,15 @@
 package seedu.address.logic.commands.person;
 
+import java.time.LocalDate;
+
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.person.CheckBirthdays;
 
 //@@author hymss
 /**
- * Lists all persons in Bluebird whose birthday is on the current day with respect to the user.
+ * Lists all persons in Bluebird whose birthday is on the current day with respect to the user,
+ * or within the given number of days from it.
  */
 
 public class ShowBirthdaysCommand extends Command {
@@ -15,21 +18,38 @@ public class ShowBirthdaysCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Chirp! Here are the birthdays for today.";
 
+    public static final String MESSAGE_SUCCESS_UPCOMING = "Chirp! Here are the birthdays for the next %1$d days.";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Lists all persons whose birthdays are today.\n"
-            + "Parameters: KEYWORD\n"
-            + "Example for showing birthdays: " + COMMAND_WORD;
+            + ": Lists all persons whose birthdays are today, or within the next DAYS days if given.\n"
+            + "Parameters: [DAYS] (must be a positive integer)\n"
+            + "Example for showing birthdays: " + COMMAND_WORD + "\n"
+            + "Example for showing the birthdays of the coming week: " + COMMAND_WORD + " 7";
 
-    private CheckBirthdays checker = new CheckBirthdays();
+    private final int days;
 
     public ShowBirthdaysCommand() {
+        this(1);
+    }
 
+    //@@author
+    public ShowBirthdaysCommand(int days) {
+        this.days = days;
     }
 
+    //@@author hymss
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(checker);
-        return new CommandResult(MESSAGE_SUCCESS);
+        CheckBirthdays checker = new CheckBirthdays(LocalDate.now(), days);
+        model.updateFilteredPersonList(checker.using(model.getBirthdayIndex()));
+        return new CommandResult(days == 1 ? MESSAGE_SUCCESS : String.format(MESSAGE_SUCCESS_UPCOMING, days));
     }
 
+    //@@author
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowBirthdaysCommand // instanceof handles nulls
+                && this.days == ((ShowBirthdaysCommand) other).days); // state check
+    }
 }
@@ -49,17 +49,22 @@ public class DeleteTaskCommand extends UndoableCommand {
                 throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
             }
         }
-        for (Index targetIndex : targetIndices) {
-            List<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
-            ReadOnlyTask taskToDelete = lastShownList.get(targetIndex.getZeroBased() - counter);
-            tasksToDelete.add(taskToDelete);
+        model.beginBatch();
+        try {
+            for (Index targetIndex : targetIndices) {
+                List<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
+                ReadOnlyTask taskToDelete = lastShownList.get(targetIndex.getZeroBased() - counter);
+                tasksToDelete.add(taskToDelete);
 
-            try {
-                model.deleteTask(taskToDelete);
-            } catch (TaskNotFoundException tnfe) {
-                assert false : "The target task cannot be missing";
+                try {
+                    model.deleteTask(taskToDelete);
+                } catch (TaskNotFoundException tnfe) {
+                    assert false : "The target task cannot be missing";
+                }
+                counter++;
             }
-            counter++;
+        } finally {
+            model.endBatch();
         }
         StringBuilder builder = new StringBuilder();
         for (ReadOnlyTask toAppend : tasksToDelete) {
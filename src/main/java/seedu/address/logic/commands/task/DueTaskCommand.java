@@ -0,0 +1,48 @@
+package seedu.address.logic.commands.task;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.ListSizeEvent;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Lists the incomplete tasks that take place or are due within the given number of days from now.
+ */
+public class DueTaskCommand extends Command {
+
+    public static final String COMMAND_WORD = "due";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the incomplete tasks that take place "
+            + "or are due within the specified number of days from now.\n"
+            + "Parameters: DAYS (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    private final int days;
+
+    public DueTaskCommand(int days) {
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute() {
+        LocalDateTime now = LocalDateTime.now();
+        final Set<ReadOnlyTask> dueTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        dueTasks.addAll(model.getTaskTimeIndex().getTasksOverlapping(now, now.plusDays(days)));
+        model.updateFilteredTaskList(dueTasks::contains);
+        EventsCenter.getInstance().post(new ListSizeEvent(model.getFilteredTaskList().size()));
+        return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredTaskList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DueTaskCommand // instanceof handles nulls
+                && this.days == ((DueTaskCommand) other).days); // state check
+    }
+}
@@ -5,8 +5,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_CHILD_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_PARENT_COMMAND;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,6 +25,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ParentModeCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.alias.AliasCommand;
 import seedu.address.logic.commands.alias.UnaliasCommand;
@@ -42,6 +46,7 @@ import seedu.address.logic.commands.person.ShowBirthdaysCommand;
 import seedu.address.logic.commands.person.SortCommand;
 import seedu.address.logic.commands.person.UnhideCommand;
 import seedu.address.logic.commands.person.UnpinCommand;
+import seedu.address.logic.commands.task.DueTaskCommand;
 import seedu.address.logic.commands.task.ListTaskCommand;
 import seedu.address.logic.commands.task.MarkTaskCommand;
 import seedu.address.logic.commands.task.RenameTaskCommand;
@@ -59,11 +64,13 @@ import seedu.address.logic.parser.person.HideCommandParser;
 import seedu.address.logic.parser.person.PinCommandParser;
 import seedu.address.logic.parser.person.RemarkCommandParser;
 import seedu.address.logic.parser.person.SelectCommandParser;
+import seedu.address.logic.parser.person.ShowBirthdaysCommandParser;
 import seedu.address.logic.parser.person.SortCommandParser;
 import seedu.address.logic.parser.person.UnhideCommandParser;
 import seedu.address.logic.parser.person.UnpinCommandParser;
 import seedu.address.logic.parser.task.AddTaskCommandParser;
 import seedu.address.logic.parser.task.DeleteTaskCommandParser;
+import seedu.address.logic.parser.task.DueTaskCommandParser;
 import seedu.address.logic.parser.task.FindTaskCommandParser;
 import seedu.address.logic.parser.task.MarkTaskCommandParser;
 import seedu.address.logic.parser.task.RenameTaskCommandParser;
@@ -82,8 +89,6 @@ public class AddressBookParser {
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Pattern KEYWORD_PATTERN =
-            Pattern.compile("([^\\s/]+)([\\s/]+|$)");
 
     private static final String MESSAGE_PERSON_MODEL_MODE = "This command only works with persons"
             + "\nPlease toggle to person view.";
@@ -94,21 +99,35 @@ public class AddressBookParser {
     private static final String MESSAGE_ALIAS_MODEL_MODE = "This command does not work in alias view"
             + "\nPlease toggle to person or task view";
 
+    private final List<CommandRule> commandRules = createCommandRules();
     private final Map<String, Parser<? extends Command>> commandMap;
-    private final Map<String, ReadOnlyAliasToken> aliasMap;
-    private final ObservableList<ReadOnlyAliasToken> aliasList = FXCollections.observableArrayList();
+    private final AliasExpander aliasExpander;
     private boolean isPersonEnabled;
     private boolean isTaskEnabled;
     private boolean isAliasEnabled;
     private boolean isParentEnabled;
 
+    // the route of each command word in the current mode, rebuilt by rebuildDispatchTable on each mode toggle
+    private Map<String, CommandRoute> dispatchTable;
+    private CommandRoute unknownCommandRoute;
+
     public AddressBookParser() {
+        this(FXCollections.observableArrayList());
+    }
+
+    /**
+     * Creates a parser that expands the aliases in {@code aliasTokens}.
+     * The parser follows the changes to the list, so it should be the model's list of alias tokens.
+     */
+    public AddressBookParser(ObservableList<ReadOnlyAliasToken> aliasTokens) {
+        requireNonNull(aliasTokens);
         this.commandMap = new HashMap<String, Parser<? extends Command>>();
-        this.aliasMap = new HashMap<String, ReadOnlyAliasToken>();
+        this.aliasExpander = new AliasExpander(aliasTokens);
         this.isPersonEnabled = true;
         this.isTaskEnabled = false;
         this.isAliasEnabled = false;
         this.isParentEnabled = false;
+        rebuildDispatchTable();
     }
 
     /**
@@ -127,394 +146,134 @@ public class AddressBookParser {
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
-        final String checkedCommandWord = commandWordCheck(commandWord);
-        final String checkedArguments = argumentsCheck(checkedCommandWord, arguments);
-
-        switch (checkedCommandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new AddCommandParser().parse(checkedArguments);
-            } else {
-                return new AddTaskCommandParser().parse(checkedArguments);
-            }
-
-        case EditCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new EditCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case SelectCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new SelectCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case DeleteCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new DeleteCommandParser().parse(checkedArguments);
-            } else {
-                return new DeleteTaskCommandParser().parse(checkedArguments);
-            }
-
-        case ClearCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            } else {
-                return new ClearCommand();
-            }
-
-        case PinCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new PinCommandParser().parse(arguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case ListPinCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new ListPinCommand();
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case ListAliasCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            return new ListAliasCommand();
-
-        case UnpinCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new UnpinCommandParser().parse(arguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case HideCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new HideCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case UnhideCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new UnhideCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-
-        case FindCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new FindCommandParser().parse(checkedArguments);
-            } else {
-                return new FindTaskCommandParser().parse(checkedArguments);
-            }
-
-        case FindPinnedCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new FindPinnedCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case RemarkCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new RemarkCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case ListCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new ListCommand();
-            } else {
-                return new ListTaskCommand();
-            }
-
-        case SortCommand.COMMAND_WORD:
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new SortCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case ListHiddenCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (isPersonEnabled && !isTaskEnabled) {
-                return new ListHiddenCommand();
-            } else {
-                throw new ParseException(MESSAGE_PERSON_MODEL_MODE);
-            }
-
-        case HistoryCommand.COMMAND_WORD:
-            return new HistoryCommand();
-
-        case ShowBirthdaysCommand.COMMAND_WORD:
-            return new ShowBirthdaysCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            return new HelpCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case ParentModeCommand.COMMAND_WORD:
-            return new ParentModeCommand();
-
-        case DisableParentModeCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            return new DisableParentModeCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case AliasCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            return new AliasCommandParser().parse(checkedArguments);
-
-        case UnaliasCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            return new UnaliasCommandParser().parse(checkedArguments);
-
-        case EnableTaskCommand.COMMAND_WORD:
-            return new EnableTaskCommand();
-
-        case EnablePersonCommand.COMMAND_WORD:
-            return new EnablePersonCommand();
-
-        case MarkTaskCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (!isPersonEnabled && isTaskEnabled) {
-                return new MarkTaskCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_TASK_MODEL_MODE);
-            }
-
-        case UnmarkTaskCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (!isPersonEnabled && isTaskEnabled) {
-                return new UnmarkTaskCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_TASK_MODEL_MODE);
-            }
-
-        case RenameTaskCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (!isPersonEnabled && isTaskEnabled) {
-                return new RenameTaskCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_TASK_MODEL_MODE);
-            }
-
-        case RescheduleTaskCommand.COMMAND_WORD:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            if (isAliasEnabled) {
-                throw new ParseException(MESSAGE_ALIAS_MODEL_MODE);
-            }
-            if (!isPersonEnabled && isTaskEnabled) {
-                return new RescheduleTaskCommandParser().parse(checkedArguments);
-            } else {
-                throw new ParseException(MESSAGE_TASK_MODEL_MODE);
-            }
-
-        default:
-            if (!isParentEnabled) {
-                throw new ParseException(MESSAGE_UNKNOWN_CHILD_COMMAND);
-            }
-            throw new ParseException(MESSAGE_UNKNOWN_PARENT_COMMAND);
-        }
+        final String checkedCommandWord = aliasExpander.expandWord(commandWord);
+        final CommandRoute route = dispatchTable.getOrDefault(checkedCommandWord, unknownCommandRoute);
+        final String checkedArguments = route.isArgumentsExpanded
+                ? aliasExpander.expandArguments(arguments)
+                : arguments;
+        return route.dispatch.dispatch(checkedArguments);
     }
 
     /**
-     * Checks if the commandWord is used with an alias
-     *
-     * @param commandWord - the first arg of the command statement
-     * @return checkedCommandWord , containing the representation if it has been aliased
+     * Returns the rule of each command word, holding the one parser instance used for all its commands.
+     * Each rule names the command for person mode and for task mode; the checks of parent mode and alias view
+     * are applied when the dispatch table is built.
      */
-    private String commandWordCheck(String commandWord) {
-        String checkedCommandWord = commandWord;
-
-        ReadOnlyAliasToken token = aliasMap.get(commandWord);
-        if (token != null) {
-            checkedCommandWord = token.getRepresentation().representation;
-        }
-        return checkedCommandWord;
+    private static List<CommandRule> createCommandRules() {
+        CommandDispatch personOnly = fail(MESSAGE_PERSON_MODEL_MODE);
+        CommandDispatch taskOnly = fail(MESSAGE_TASK_MODEL_MODE);
+        List<CommandRule> rules = new ArrayList<>();
+
+        rules.add(new CommandRule(AddCommand.COMMAND_WORD, false, true, true,
+                new AddCommandParser()::parse, new AddTaskCommandParser()::parse));
+        rules.add(new CommandRule(EditCommand.COMMAND_WORD, true, true, true,
+                new EditCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(SelectCommand.COMMAND_WORD, false, true, true,
+                new SelectCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(DeleteCommand.COMMAND_WORD, true, true, true,
+                new DeleteCommandParser()::parse, new DeleteTaskCommandParser()::parse));
+        rules.add(new CommandRule(ClearCommand.COMMAND_WORD, true, true, true,
+                withoutArguments(ClearCommand::new)));
+        rules.add(new CommandRule(PinCommand.COMMAND_WORD, true, true, false,
+                new PinCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(ListPinCommand.COMMAND_WORD, false, true, true,
+                withoutArguments(ListPinCommand::new), personOnly));
+        rules.add(new CommandRule(ListAliasCommand.COMMAND_WORD, true, false, true,
+                withoutArguments(ListAliasCommand::new)));
+        rules.add(new CommandRule(UnpinCommand.COMMAND_WORD, true, true, false,
+                new UnpinCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(HideCommand.COMMAND_WORD, true, true, true,
+                new HideCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(UnhideCommand.COMMAND_WORD, true, true, true,
+                new UnhideCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(FindCommand.COMMAND_WORD, false, true, true,
+                new FindCommandParser()::parse, new FindTaskCommandParser()::parse));
+        rules.add(new CommandRule(FindPinnedCommand.COMMAND_WORD, false, true, true,
+                new FindPinnedCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(RemarkCommand.COMMAND_WORD, false, true, true,
+                new RemarkCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(ListCommand.COMMAND_WORD, false, true, true,
+                withoutArguments(ListCommand::new), withoutArguments(ListTaskCommand::new)));
+        rules.add(new CommandRule(SortCommand.COMMAND_WORD, false, true, true,
+                new SortCommandParser()::parse, personOnly));
+        rules.add(new CommandRule(ListHiddenCommand.COMMAND_WORD, true, true, true,
+                withoutArguments(ListHiddenCommand::new), personOnly));
+        rules.add(new CommandRule(HistoryCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(HistoryCommand::new)));
+        rules.add(new CommandRule(ShowBirthdaysCommand.COMMAND_WORD, false, false, true,
+                new ShowBirthdaysCommandParser()::parse));
+        rules.add(new CommandRule(ExitCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(ExitCommand::new)));
+        rules.add(new CommandRule(HelpCommand.COMMAND_WORD, true, false, true,
+                withoutArguments(HelpCommand::new)));
+        rules.add(new CommandRule(UndoCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(UndoCommand::new)));
+        rules.add(new CommandRule(ParentModeCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(ParentModeCommand::new)));
+        rules.add(new CommandRule(DisableParentModeCommand.COMMAND_WORD, true, false, true,
+                withoutArguments(DisableParentModeCommand::new)));
+        rules.add(new CommandRule(RedoCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(RedoCommand::new)));
+        rules.add(new CommandRule(RunCommand.COMMAND_WORD, false, false, false,
+                new RunCommandParser()::parse));
+        rules.add(new CommandRule(AliasCommand.COMMAND_WORD, true, false, false,
+                new AliasCommandParser()::parse));
+        rules.add(new CommandRule(UnaliasCommand.COMMAND_WORD, true, false, false,
+                new UnaliasCommandParser()::parse));
+        rules.add(new CommandRule(EnableTaskCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(EnableTaskCommand::new)));
+        rules.add(new CommandRule(EnablePersonCommand.COMMAND_WORD, false, false, true,
+                withoutArguments(EnablePersonCommand::new)));
+        rules.add(new CommandRule(MarkTaskCommand.COMMAND_WORD, true, true, true,
+                taskOnly, new MarkTaskCommandParser()::parse));
+        rules.add(new CommandRule(UnmarkTaskCommand.COMMAND_WORD, true, true, true,
+                taskOnly, new UnmarkTaskCommandParser()::parse));
+        rules.add(new CommandRule(RenameTaskCommand.COMMAND_WORD, true, true, true,
+                taskOnly, new RenameTaskCommandParser()::parse));
+        rules.add(new CommandRule(RescheduleTaskCommand.COMMAND_WORD, true, true, true,
+                taskOnly, new RescheduleTaskCommandParser()::parse));
+        rules.add(new CommandRule(DueTaskCommand.COMMAND_WORD, false, true, true,
+                taskOnly, new DueTaskCommandParser()::parse));
+        return rules;
     }
 
     /**
-     * Checks if any of the arguments have an alias
-     *
-     * @param arguments - the arguments after the command word
-     * @returns a string that contains the arguments with replaced representations if any of them had aliases.
+     * Rebuilds the dispatch table for the current mode. Called whenever a mode toggle changes.
      */
-    private String argumentsCheck(String checkedCommandWord, String arguments) {
-
-        if ("alias".equals(checkedCommandWord) || ("unalias".equals(checkedCommandWord))) {
-            return arguments;
-        }
-        StringBuilder builder = new StringBuilder();
-        builder.append(" ");
-        Matcher matcher = KEYWORD_PATTERN.matcher(arguments);
-
-        while (matcher.find()) {
-            String keyword = matcher.group(1);
-            String spaces = matcher.group(2); // The amount of spaces entered is kept the same
-            ReadOnlyAliasToken token = aliasMap.get(keyword);
-            if (token != null) {
-                keyword = token.getRepresentation().representation;
+    private void rebuildDispatchTable() {
+        boolean isPersonMode = isPersonEnabled && !isTaskEnabled;
+        Map<String, CommandRoute> table = new HashMap<>();
+        for (CommandRule rule : commandRules) {
+            if (rule.isParentOnly && !isParentEnabled) {
+                table.put(rule.commandWord, new CommandRoute(fail(MESSAGE_UNKNOWN_CHILD_COMMAND), false));
+            } else if (rule.isModelCommand && isAliasEnabled) {
+                table.put(rule.commandWord, new CommandRoute(fail(MESSAGE_ALIAS_MODEL_MODE), false));
+            } else {
+                table.put(rule.commandWord, new CommandRoute(
+                        isPersonMode ? rule.personDispatch : rule.taskDispatch, rule.isArgumentsExpanded));
             }
-            builder.append(keyword);
-            builder.append(spaces);
         }
-
-        return builder.toString();
+        dispatchTable = table;
+        unknownCommandRoute = new CommandRoute(
+                fail(isParentEnabled ? MESSAGE_UNKNOWN_PARENT_COMMAND : MESSAGE_UNKNOWN_CHILD_COMMAND), false);
     }
 
     /**
-     * Adds an AliasToken to be used by parser to replace all alias's keyword with its representation
-     * before parsing.
-     *
-     * @param toAdd
-     * @return
+     * Returns a dispatch that creates a command with {@code command}, whatever the arguments.
      */
-    public boolean addAliasToken(ReadOnlyAliasToken toAdd) {
-        requireNonNull(toAdd);
-
-        if (aliasMap.containsKey(toAdd.getKeyword().keyword)) {
-            return false;
-        }
-
-        if (isCommandRegistered(toAdd.getKeyword().keyword)) {
-            return false;
-        }
-
-        aliasList.add(toAdd);
-        aliasMap.put(toAdd.getKeyword().keyword, toAdd);
-        return true;
+    private static CommandDispatch withoutArguments(Supplier<Command> command) {
+        return arguments -> command.get();
     }
 
     /**
-     * Removes an AliasToken that is used by parser to replace all alias's keyword with its representation
-     * before parsing.
-     *
-     * @param toRemove
-     * @return
+     * Returns a dispatch that rejects any arguments with {@code message}.
      */
-    public boolean removeAliasToken(ReadOnlyAliasToken toRemove) {
-        requireNonNull(toRemove);
-
-        ReadOnlyAliasToken token = aliasMap.remove(toRemove.getKeyword().keyword);
-        if (token != null) {
-            return aliasList.remove(token);
-        } else {
-            return false;
-        }
+    private static CommandDispatch fail(String message) {
+        return arguments -> {
+            throw new ParseException(message);
+        };
     }
 
-
     /**
      * Registers a command parser into the commandMap
      *
@@ -528,7 +287,7 @@ public class AddressBookParser {
         if (commandMap.containsKey(commandParser.getCommandWord())) {
             return false;
         }
-        if (aliasMap.containsKey(commandParser.getCommandWord())) {
+        if (aliasExpander.isAlias(commandParser.getCommandWord())) {
             return false;
         }
 
@@ -552,7 +311,6 @@ public class AddressBookParser {
         commandMap.put("parent", null);
         commandMap.put("child", null);
         commandMap.put("listhidden", null);
-        commandMap.put("showbirthdays", null);
     }
 
     public boolean isCommandRegistered(String header) {
@@ -563,10 +321,6 @@ public class AddressBookParser {
         return commandMap.remove(header);
     }
 
-    public ObservableList<ReadOnlyAliasToken> getAliasTokenList() {
-        return aliasList;
-    }
-
     /**
      * Enables the the model command mode of either person or task to be used by main parser
      *
@@ -576,6 +330,7 @@ public class AddressBookParser {
         isPersonEnabled = true;
         isAliasEnabled = false;
         isTaskEnabled = false;
+        rebuildDispatchTable();
         return true;
     }
 
@@ -588,6 +343,7 @@ public class AddressBookParser {
         isPersonEnabled = false;
         isAliasEnabled = false;
         isTaskEnabled = true;
+        rebuildDispatchTable();
         return true;
     }
 
@@ -598,6 +354,7 @@ public class AddressBookParser {
      */
     public boolean enableParentToggle() {
         isParentEnabled = true;
+        rebuildDispatchTable();
         return true;
     }
 
@@ -608,6 +365,7 @@ public class AddressBookParser {
      */
     public boolean disableParentToggle() {
         isParentEnabled = false;
+        rebuildDispatchTable();
         return true;
     }
 
@@ -618,7 +376,64 @@ public class AddressBookParser {
      */
     public boolean enableAliasToggle() {
         isAliasEnabled = true;
+        rebuildDispatchTable();
         return true;
     }
 
+    /**
+     * Returns the command for the arguments of a command word.
+     */
+    @FunctionalInterface
+    private interface CommandDispatch {
+        Command dispatch(String arguments) throws ParseException;
+    }
+
+    /**
+     * How a command word is dispatched in each mode.
+     */
+    private static class CommandRule {
+        private final String commandWord;
+        private final boolean isParentOnly;
+        private final boolean isModelCommand;
+        private final boolean isArgumentsExpanded;
+        private final CommandDispatch personDispatch;
+        private final CommandDispatch taskDispatch;
+
+        /**
+         * @param isParentOnly whether the command is unknown outside parent mode
+         * @param isModelCommand whether the command does not work in alias view
+         * @param isArgumentsExpanded whether aliases in the arguments are expanded
+         */
+        CommandRule(String commandWord, boolean isParentOnly, boolean isModelCommand, boolean isArgumentsExpanded,
+                    CommandDispatch personDispatch, CommandDispatch taskDispatch) {
+            this.commandWord = commandWord;
+            this.isParentOnly = isParentOnly;
+            this.isModelCommand = isModelCommand;
+            this.isArgumentsExpanded = isArgumentsExpanded;
+            this.personDispatch = personDispatch;
+            this.taskDispatch = taskDispatch;
+        }
+
+        /**
+         * Creates the rule of a command that is dispatched the same way in person and task mode.
+         */
+        CommandRule(String commandWord, boolean isParentOnly, boolean isModelCommand, boolean isArgumentsExpanded,
+                    CommandDispatch dispatch) {
+            this(commandWord, isParentOnly, isModelCommand, isArgumentsExpanded, dispatch, dispatch);
+        }
+    }
+
+    /**
+     * How a command word is dispatched in the current mode.
+     */
+    private static class CommandRoute {
+        private final CommandDispatch dispatch;
+        private final boolean isArgumentsExpanded;
+
+        CommandRoute(CommandDispatch dispatch, boolean isArgumentsExpanded) {
+            this.dispatch = dispatch;
+            this.isArgumentsExpanded = isArgumentsExpanded;
+        }
+    }
+
 }
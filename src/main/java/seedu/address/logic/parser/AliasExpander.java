@@ -0,0 +1,359 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+
+/**
+ * Expands the aliases in user input in a single pass.
+ * <p>
+ * Input is split into words separated by whitespace and {@code /}, and each word that is exactly the keyword of
+ * an alias is replaced by the alias's representation, with the aliases in the representation expanded in turn.
+ * The full expansion of each keyword is worked out once and remembered, so expanding input costs one hash lookup
+ * per word however many aliases there are and however deeply they nest. An alias whose expansion leads back to
+ * itself, directly or through other aliases, is expanded one level only.
+ * <p>
+ * The keywords are kept up to date with the alias token list given to the constructor, including when it is
+ * replaced as a whole by undo or redo. When an alias changes, only the aliases that lead to it are worked out
+ * again, so a change costs time proportional to the number of those aliases rather than to all of them.
+ * Nested aliases are expanded and cycles found without recursion, so chains of any length can be expanded.
+ */
+public class AliasExpander {
+
+    // the representation of each alias, by the exact text of its keyword
+    private final Map<String, String> representations = new HashMap<>();
+    // the words in the representation of each alias
+    private final Map<String, Set<String>> wordsInRepresentations = new HashMap<>();
+    // the aliases whose representation has each word, whether or not the word is an alias itself
+    private final Map<String, Set<String>> dependentKeywords = new HashMap<>();
+    // the full expansion of each alias that has been expanded since it or an alias it leads to last changed
+    private final Map<String, String> expansions = new HashMap<>();
+    // the aliases that are part of a cycle, which are only expanded one level
+    private final Set<String> cyclicKeywords = new HashSet<>();
+
+    public AliasExpander(ObservableList<ReadOnlyAliasToken> aliasTokens) {
+        requireNonNull(aliasTokens);
+        aliasTokens.forEach(this::addAlias);
+        new CycleFinder(representations.keySet()).findCycles();
+        aliasTokens.addListener(this::handleAliasTokensChanged);
+    }
+
+    /**
+     * Returns true if {@code word} is exactly the keyword of an alias.
+     */
+    public boolean isAlias(String word) {
+        return representations.containsKey(word);
+    }
+
+    /**
+     * Returns the full expansion of {@code word} if it is an alias, or {@code word} itself otherwise.
+     */
+    public String expandWord(String word) {
+        return isAlias(word) ? getExpansion(word) : word;
+    }
+
+    /**
+     * Returns {@code arguments} with each alias expanded. Separators at the start of {@code arguments} are
+     * replaced by a single space, and all other separators are kept as they are.
+     */
+    public String expandArguments(String arguments) {
+        int start = 0;
+        while (start < arguments.length() && isSeparator(arguments.charAt(start))) {
+            start++;
+        }
+        StringBuilder builder = new StringBuilder(arguments.length() + 1).append(' ');
+        if (representations.isEmpty()) {
+            return builder.append(arguments, start, arguments.length()).toString();
+        }
+        appendExpanded(builder, arguments, start);
+        return builder.toString();
+    }
+
+    /**
+     * Appends {@code text} from {@code start} to {@code builder}, with each word that is an alias replaced by its
+     * full expansion.
+     */
+    private void appendExpanded(StringBuilder builder, String text, int start) {
+        int wordStart = -1;
+        for (int i = start; i <= text.length(); i++) {
+            boolean isEnd = i == text.length();
+            if (!isEnd && !isSeparator(text.charAt(i))) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+                continue;
+            }
+            if (wordStart >= 0) {
+                builder.append(expandWord(text.substring(wordStart, i)));
+                wordStart = -1;
+            }
+            if (!isEnd) {
+                builder.append(text.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the full expansion of the alias {@code keyword}, working it out if it is not known yet.
+     * The aliases that {@code keyword} leads to are worked out first, deepest first, so that each expansion
+     * only looks up known expansions. The aliases in the representation of a cyclic alias are not expanded, and
+     * the other aliases cannot lead back to themselves, so this always terminates.
+     */
+    private String getExpansion(String keyword) {
+        String expansion = expansions.get(keyword);
+        if (expansion != null) {
+            return expansion;
+        }
+
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(keyword);
+        while (!pending.isEmpty()) {
+            String current = pending.peek();
+            if (expansions.containsKey(current)) {
+                pending.pop();
+                continue;
+            }
+            String representation = representations.get(current);
+            if (cyclicKeywords.contains(current)) {
+                expansions.put(current, representation);
+                pending.pop();
+                continue;
+            }
+            boolean isReady = true;
+            for (String word : wordsInRepresentations.get(current)) {
+                if (isAlias(word) && !expansions.containsKey(word)) {
+                    pending.push(word);
+                    isReady = false;
+                }
+            }
+            if (isReady) {
+                StringBuilder builder = new StringBuilder();
+                appendExpanded(builder, representation, 0);
+                expansions.put(current, builder.toString());
+                pending.pop();
+            }
+        }
+        return expansions.get(keyword);
+    }
+
+    /**
+     * Updates the aliases with the tokens added to and removed from the alias token list.
+     * Only the aliases that lead to a changed alias are affected: their expansions are dropped, to be worked out
+     * again when next used, and the cycles among them are found again.
+     */
+    private void handleAliasTokensChanged(ListChangeListener.Change<? extends ReadOnlyAliasToken> change) {
+        Set<String> changedKeywords = new HashSet<>();
+        while (change.next()) {
+            for (ReadOnlyAliasToken token : change.getRemoved()) {
+                removeAlias(token);
+                changedKeywords.add(token.getKeyword().keyword);
+            }
+            for (ReadOnlyAliasToken token : change.getAddedSubList()) {
+                addAlias(token);
+                changedKeywords.add(token.getKeyword().keyword);
+            }
+        }
+
+        Set<String> affectedKeywords = getKeywordsLeadingTo(changedKeywords);
+        expansions.keySet().removeAll(affectedKeywords);
+        cyclicKeywords.removeAll(affectedKeywords);
+        new CycleFinder(affectedKeywords).findCycles();
+    }
+
+    /**
+     * Adds the alias of {@code token}, recording the words of its representation.
+     */
+    private void addAlias(ReadOnlyAliasToken token) {
+        String keyword = token.getKeyword().keyword;
+        String representation = token.getRepresentation().representation;
+        Set<String> words = getWordsIn(representation);
+        representations.put(keyword, representation);
+        wordsInRepresentations.put(keyword, words);
+        for (String word : words) {
+            dependentKeywords.computeIfAbsent(word, unused -> new HashSet<>()).add(keyword);
+        }
+    }
+
+    /**
+     * Removes the alias of {@code token} and the record of the words of its representation.
+     */
+    private void removeAlias(ReadOnlyAliasToken token) {
+        String keyword = token.getKeyword().keyword;
+        representations.remove(keyword);
+        Set<String> words = wordsInRepresentations.remove(keyword);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<String> dependents = dependentKeywords.get(word);
+            dependents.remove(keyword);
+            if (dependents.isEmpty()) {
+                dependentKeywords.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code keywords} and the keywords of all the aliases whose expansion leads to any of them.
+     */
+    private Set<String> getKeywordsLeadingTo(Set<String> keywords) {
+        Set<String> found = new HashSet<>(keywords);
+        Deque<String> toVisit = new ArrayDeque<>(keywords);
+        while (!toVisit.isEmpty()) {
+            for (String dependent : dependentKeywords.getOrDefault(toVisit.pop(), Collections.emptySet())) {
+                if (found.add(dependent)) {
+                    toVisit.push(dependent);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the distinct words of {@code text}.
+     */
+    private static Set<String> getWordsIn(String text) {
+        Set<String> words = new HashSet<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i < text.length() && !isSeparator(text.charAt(i))) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+            } else if (wordStart >= 0) {
+                words.add(text.substring(wordStart, i));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '/' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Finds the aliases that are part of a cycle among a set of aliases, with an iterative form of Tarjan's
+     * algorithm for strongly connected components over the graph from each alias to the aliases in its
+     * representation. Any cycle through an alias that leads to a changed alias lies entirely among such aliases,
+     * so the cycles among them are all that can change.
+     */
+    private class CycleFinder {
+        private final Set<String> keywords;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Map<String, Integer> lowLinks = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+        private final Deque<Visit> visits = new ArrayDeque<>();
+
+        CycleFinder(Set<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        /**
+         * Adds the aliases of {@code keywords} that are part of a cycle among them to {@code cyclicKeywords}.
+         */
+        void findCycles() {
+            for (String keyword : keywords) {
+                if (isAlias(keyword) && !indexes.containsKey(keyword)) {
+                    visitAll(keyword);
+                }
+            }
+        }
+
+        /**
+         * Visits {@code root} and the aliases reachable from it, depth first.
+         */
+        private void visitAll(String root) {
+            beginVisit(root);
+            while (!visits.isEmpty()) {
+                Visit visit = visits.peek();
+                if (visit.nextAliases.hasNext()) {
+                    String next = visit.nextAliases.next();
+                    if (next.equals(visit.keyword)) {
+                        visit.isSelfReferencing = true;
+                    }
+                    if (!indexes.containsKey(next)) {
+                        beginVisit(next);
+                    } else if (onStack.contains(next)) {
+                        lowerLowLink(visit.keyword, indexes.get(next));
+                    }
+                    continue;
+                }
+                visits.pop();
+                endVisit(visit);
+                if (!visits.isEmpty()) {
+                    lowerLowLink(visits.peek().keyword, lowLinks.get(visit.keyword));
+                }
+            }
+        }
+
+        /**
+         * Starts visiting {@code keyword}, to follow the aliases among {@code keywords} in its representation.
+         */
+        private void beginVisit(String keyword) {
+            int index = indexes.size();
+            indexes.put(keyword, index);
+            lowLinks.put(keyword, index);
+            stack.push(keyword);
+            onStack.add(keyword);
+            List<String> nextAliases = new ArrayList<>();
+            for (String word : wordsInRepresentations.get(keyword)) {
+                if (isAlias(word) && keywords.contains(word)) {
+                    nextAliases.add(word);
+                }
+            }
+            visits.push(new Visit(keyword, nextAliases.iterator()));
+        }
+
+        /**
+         * Records the cycle {@code visit} closes, if it is the first visited alias of one.
+         */
+        private void endVisit(Visit visit) {
+            if (!lowLinks.get(visit.keyword).equals(indexes.get(visit.keyword))) {
+                return;
+            }
+            Set<String> component = new HashSet<>();
+            String member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(visit.keyword));
+            if (component.size() > 1 || visit.isSelfReferencing) {
+                cyclicKeywords.addAll(component);
+            }
+        }
+
+        private void lowerLowLink(String keyword, int lowLink) {
+            lowLinks.put(keyword, Math.min(lowLinks.get(keyword), lowLink));
+        }
+    }
+
+    /**
+     * The visit of an alias in progress, with the aliases in its representation that are left to follow.
+     */
+    private static class Visit {
+        private final String keyword;
+        private final Iterator<String> nextAliases;
+        private boolean isSelfReferencing = false;
+
+        Visit(String keyword, Iterator<String> nextAliases) {
+            this.keyword = keyword;
+            this.nextAliases = nextAliases;
+        }
+    }
+}
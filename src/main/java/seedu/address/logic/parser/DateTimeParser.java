@@ -0,0 +1,305 @@
+package seedu.address.logic.parser;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.joestelmach.natty.CalendarSource;
+import com.joestelmach.natty.DateGroup;
+
+/**
+ * Parses date-time phrases such as "2025-03-01 14:00", "tomorrow 5pm" or "next mon", relative to a reference
+ * date-time.
+ * <p>
+ * The common forms are parsed directly. Any other phrase is parsed by natty, whose parser is created once and
+ * reused, and whose results are remembered in a least recently used cache keyed by the phrase and the reference
+ * date. The common forms are parsed to the same date-time natty would give them.
+ * <p>
+ * A {@code DateTimeParser} must only be used by one thread.
+ */
+public class DateTimeParser {
+
+    static final int CACHE_SIZE = 256;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern ISO_DATE_FORMAT = Pattern.compile("(\\d{4})-(\\d{1,2})-(\\d{1,2})");
+    private static final Pattern TIME_FORMAT = Pattern.compile("(\\d{1,2})(?::(\\d{2}))?(?: ?([ap]m))?");
+    private static final String NEXT_WORD = "next ";
+    private static final String AT_WORD = "at ";
+
+    private static final Map<String, DayOfWeek> DAYS_OF_WEEK = new HashMap<>();
+
+    static {
+        String[][] dayNames = {
+            {"mon", "monday"}, {"tue", "tues", "tuesday"}, {"wed", "wednesday"},
+            {"thu", "thur", "thurs", "thursday"}, {"fri", "friday"}, {"sat", "saturday"}, {"sun", "sunday"}
+        };
+        for (int i = 0; i < dayNames.length; i++) {
+            for (String dayName : dayNames[i]) {
+                DAYS_OF_WEEK.put(dayName, DayOfWeek.of(i + 1));
+            }
+        }
+    }
+
+    private final com.joestelmach.natty.Parser nattyParser = new com.joestelmach.natty.Parser();
+    private final Map<CacheKey, Resolution> nattyResults = new LinkedHashMap<CacheKey, Resolution>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, Resolution> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Returns the date-time {@code phrase} stands for when it is {@code reference}, or an empty Optional if
+     * {@code phrase} is not a date-time.
+     */
+    public Optional<LocalDateTime> parse(String phrase, LocalDateTime reference) {
+        String normalisedPhrase = WHITESPACE.matcher(phrase.trim()).replaceAll(" ").toLowerCase();
+        if (normalisedPhrase.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<LocalDateTime> dateTime = parseCommonForm(normalisedPhrase, reference);
+        if (dateTime.isPresent()) {
+            return dateTime;
+        }
+
+        CacheKey key = new CacheKey(normalisedPhrase, reference.toLocalDate());
+        Resolution resolution = nattyResults.get(key);
+        if (resolution == null) {
+            resolution = parseWithNatty(normalisedPhrase, reference);
+            if (resolution.isCacheable) {
+                nattyResults.put(key, resolution);
+            }
+        }
+        return resolution.resolve(reference);
+    }
+
+    /**
+     * Returns the date-time {@code phrase} stands for if it is one of the common forms: a date, optionally
+     * followed by a time, or a time on its own. The date is either {@code yyyy-mm-dd}, "today", "tomorrow",
+     * "tmr", "yesterday", or a day of the week optionally preceded by "next". The time is either {@code hh:mm}
+     * or {@code h[:mm]am} and {@code h[:mm]pm}, optionally preceded by "at".
+     * A date without a time has the time of {@code reference}, and a time without a date is on the date of
+     * {@code reference}.
+     *
+     * @return Empty Optional if {@code phrase} is not one of the common forms.
+     */
+    static Optional<LocalDateTime> parseCommonForm(String phrase, LocalDateTime reference) {
+        Optional<LocalTime> timeOnly = parseTime(phrase);
+        if (timeOnly.isPresent()) {
+            return Optional.of(reference.toLocalDate().atTime(timeOnly.get()));
+        }
+
+        int dateEnd = phrase.startsWith(NEXT_WORD) ? phrase.indexOf(' ', NEXT_WORD.length()) : phrase.indexOf(' ');
+        String datePhrase = dateEnd < 0 ? phrase : phrase.substring(0, dateEnd);
+        Optional<LocalDate> date = parseDate(datePhrase, reference.toLocalDate());
+        if (!date.isPresent()) {
+            return Optional.empty();
+        }
+        if (dateEnd < 0) {
+            return Optional.of(date.get().atTime(reference.toLocalTime()));
+        }
+
+        String timePhrase = phrase.substring(dateEnd + 1);
+        if (timePhrase.startsWith(AT_WORD)) {
+            timePhrase = timePhrase.substring(AT_WORD.length());
+        }
+        return parseTime(timePhrase).map(date.get()::atTime);
+    }
+
+    /**
+     * Returns the date {@code phrase} stands for on {@code referenceDate}. A day of the week is the first such
+     * day after {@code referenceDate}, and "next" followed by a day of the week is that day in the week after
+     * the week of {@code referenceDate}, with weeks starting on Sunday as natty has them.
+     */
+    private static Optional<LocalDate> parseDate(String phrase, LocalDate referenceDate) {
+        switch (phrase) {
+        case "today":
+            return Optional.of(referenceDate);
+        case "tomorrow":
+        case "tmr":
+            return Optional.of(referenceDate.plusDays(1));
+        case "yesterday":
+            return Optional.of(referenceDate.minusDays(1));
+        default:
+            break;
+        }
+
+        if (phrase.startsWith(NEXT_WORD)) {
+            DayOfWeek day = DAYS_OF_WEEK.get(phrase.substring(NEXT_WORD.length()));
+            if (day == null) {
+                return Optional.empty();
+            }
+            LocalDate startOfNextWeek = referenceDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY))
+                    .plusWeeks(1);
+            return Optional.of(startOfNextWeek.with(TemporalAdjusters.nextOrSame(day)));
+        }
+        DayOfWeek day = DAYS_OF_WEEK.get(phrase);
+        if (day != null) {
+            return Optional.of(referenceDate.with(TemporalAdjusters.next(day)));
+        }
+
+        Matcher matcher = ISO_DATE_FORMAT.matcher(phrase);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3))));
+        } catch (DateTimeException dte) {
+            // natty rolls invalid dates over into the next month, so leave them to natty
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the time {@code phrase} stands for if it is {@code hh:mm} on the 24-hour clock, or {@code h[:mm]}
+     * followed by "am" or "pm".
+     */
+    private static Optional<LocalTime> parseTime(String phrase) {
+        Matcher matcher = TIME_FORMAT.matcher(phrase);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int hour = Integer.parseInt(matcher.group(1));
+        int minute = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+        String halfOfDay = matcher.group(3);
+        if (minute > 59) {
+            return Optional.empty();
+        }
+        if (halfOfDay == null) {
+            return matcher.group(2) != null && hour < 24 ? Optional.of(LocalTime.of(hour, minute)) : Optional.empty();
+        }
+        if (hour < 1 || hour > 12) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalTime.of(hour % 12 + (halfOfDay.equals("pm") ? 12 : 0), minute));
+    }
+
+    /**
+     * Parses {@code phrase} with natty and returns how to work out its date-time from a reference date-time on
+     * the date of {@code reference}.
+     */
+    private Resolution parseWithNatty(String phrase, LocalDateTime reference) {
+        List<DateGroup> groups;
+        CalendarSource.setBaseDate(Date.from(reference.atZone(ZoneId.systemDefault()).toInstant()));
+        try {
+            groups = nattyParser.parse(phrase);
+        } finally {
+            CalendarSource.setBaseDate(null);
+        }
+        if (groups.isEmpty() || groups.get(0).getDates().isEmpty()) {
+            return Resolution.NONE;
+        }
+
+        DateGroup dateGroup = groups.get(0);
+        LocalDateTime dateTime = LocalDateTime.ofInstant(dateGroup.getDates().get(0).toInstant(),
+                ZoneId.systemDefault());
+        if (dateGroup.isTimeInferred()) {
+            return Resolution.ofDate(dateTime.toLocalDate());
+        }
+
+        // natty gives times such as "5pm" to the minute, and times relative to now such as "in 3 hours" to the
+        // same fraction of a minute as the reference date-time, which is the only way to tell them apart
+        Duration referenceFraction = Duration.between(reference.truncatedTo(ChronoUnit.MINUTES), reference);
+        Duration fraction = Duration.between(dateTime.truncatedTo(ChronoUnit.MINUTES), dateTime);
+        if (fraction.isZero() && !referenceFraction.isZero()) {
+            return Resolution.ofDateTime(dateTime);
+        }
+        if (fraction.equals(referenceFraction) && !fraction.isZero()) {
+            return Resolution.ofOffset(Duration.between(reference, dateTime));
+        }
+        return Resolution.ofUncacheable(dateTime);
+    }
+
+    /**
+     * A phrase and the date it was parsed on.
+     */
+    private static class CacheKey {
+        private final String phrase;
+        private final LocalDate referenceDate;
+
+        CacheKey(String phrase, LocalDate referenceDate) {
+            this.phrase = phrase;
+            this.referenceDate = referenceDate;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof CacheKey // instanceof handles nulls
+                    && phrase.equals(((CacheKey) other).phrase)
+                    && referenceDate.equals(((CacheKey) other).referenceDate));
+        }
+
+        @Override
+        public int hashCode() {
+            return phrase.hashCode() * 31 + referenceDate.hashCode();
+        }
+    }
+
+    /**
+     * How the date-time of a phrase parsed by natty is worked out from a reference date-time on the date the
+     * phrase was parsed: a date at the time of the reference, a fixed date-time, an offset from the reference,
+     * or no date-time at all.
+     */
+    private static class Resolution {
+        static final Resolution NONE = new Resolution(null, null, null, true);
+
+        private final LocalDate date;
+        private final LocalDateTime dateTime;
+        private final Duration offset;
+        private final boolean isCacheable;
+
+        private Resolution(LocalDate date, LocalDateTime dateTime, Duration offset, boolean isCacheable) {
+            this.date = date;
+            this.dateTime = dateTime;
+            this.offset = offset;
+            this.isCacheable = isCacheable;
+        }
+
+        static Resolution ofDate(LocalDate date) {
+            return new Resolution(date, null, null, true);
+        }
+
+        static Resolution ofDateTime(LocalDateTime dateTime) {
+            return new Resolution(null, dateTime, null, true);
+        }
+
+        static Resolution ofOffset(Duration offset) {
+            return new Resolution(null, null, offset, true);
+        }
+
+        static Resolution ofUncacheable(LocalDateTime dateTime) {
+            return new Resolution(null, dateTime, null, false);
+        }
+
+        /**
+         * Returns the date-time of the phrase when it is {@code reference}.
+         */
+        Optional<LocalDateTime> resolve(LocalDateTime reference) {
+            if (date != null) {
+                return Optional.of(date.atTime(reference.toLocalTime()));
+            }
+            if (offset != null) {
+                return Optional.of(reference.plus(offset));
+            }
+            return Optional.ofNullable(dateTime);
+        }
+    }
+}
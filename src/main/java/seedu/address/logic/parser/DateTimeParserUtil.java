@@ -1,47 +1,30 @@
 package seedu.address.logic.parser;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
-import com.joestelmach.natty.DateGroup;
-
 //@@author deep4k
 /**
  * Contains utility methods used for parsing DateTime in the various *Parser classes.
  */
 public class DateTimeParserUtil {
 
+    private static final ThreadLocal<DateTimeParser> DATE_TIME_PARSER = ThreadLocal.withInitial(DateTimeParser::new);
+
     /**
-     * Parses user input String specified{@code args} into LocalDateTime objects using Natural Language Parsing(NLP)
+     * Parses user input String specified{@code args} into LocalDateTime objects using Natural Language Parsing(NLP),
+     * relative to the current date-time.
+     * Each thread has its own {@link DateTimeParser}, so the natty parser and the parsed phrases it remembers are
+     * reused by later calls on the same thread.
      *
      * @return Empty Optional if args could not be parsed
-     * @Disclaimer : The parser used is a dependency called 'natty' developed by 'Joe Stelmach'
+     * @Disclaimer : The parser used for uncommon phrases is a dependency called 'natty' developed by 'Joe Stelmach'
      */
-    public static Optional<LocalDateTime> nattyParseDateTime(String args) {
+    public static Optional<LocalDateTime> parseDateTime(String args) {
         if (args == null || args.isEmpty()) {
             return Optional.empty();
         }
-
-        com.joestelmach.natty.Parser parser = new com.joestelmach.natty.Parser();
-        List groups = parser.parse(args);
-
-        if (groups.size() <= 0) {
-            return Optional.empty();
-        }
-
-        DateGroup dateGroup = (DateGroup) groups.get(0);
-
-        if (dateGroup.getDates().size() < 0) {
-            return Optional.empty();
-        }
-
-        Date date = dateGroup.getDates().get(0);
-
-        LocalDateTime localDateTime = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
-        return Optional.ofNullable(localDateTime);
+        return DATE_TIME_PARSER.get().parse(args, LocalDateTime.now());
     }
 
     /**
@@ -59,6 +42,6 @@ public class DateTimeParserUtil {
     }
 
     public static boolean containsTime(String args) {
-        return nattyParseDateTime(args).isPresent();
+        return parseDateTime(args).isPresent();
     }
 }
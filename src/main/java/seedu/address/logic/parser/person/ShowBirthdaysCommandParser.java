@@ -0,0 +1,37 @@
+package seedu.address.logic.parser.person;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.person.ShowBirthdaysCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ShowBirthdaysCommand object
+ */
+public class ShowBirthdaysCommandParser implements Parser<ShowBirthdaysCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShowBirthdaysCommand
+     * and returns an ShowBirthdaysCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShowBirthdaysCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ShowBirthdaysCommand();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowBirthdaysCommand.MESSAGE_USAGE));
+        }
+        return new ShowBirthdaysCommand(Integer.parseInt(trimmedArgs));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return ShowBirthdaysCommand.COMMAND_WORD;
+    }
+}
@@ -64,8 +64,9 @@ public class AddTaskCommandParser implements Parser<AddTaskCommand> {
 
             BiConsumer<String, String> consumer = (matchedGroup, token) -> {
                 String time = matchedGroup.substring(token.length(), matchedGroup.length());
-                if (DateTimeParserUtil.containsTime(time)) {
-                    dateTimeMap.put(token, DateTimeParserUtil.nattyParseDateTime(time));
+                Optional<LocalDateTime> dateTime = DateTimeParserUtil.parseDateTime(time);
+                if (dateTime.isPresent()) {
+                    dateTimeMap.put(token, dateTime);
                 } else {
                     headerBuilder.append(matchedGroup);
                 }
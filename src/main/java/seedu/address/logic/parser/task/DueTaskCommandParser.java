@@ -0,0 +1,34 @@
+package seedu.address.logic.parser.task;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.task.DueTaskCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DueTaskCommand object
+ */
+public class DueTaskCommandParser implements Parser<DueTaskCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DueTaskCommand
+     * and returns an DueTaskCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DueTaskCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueTaskCommand.MESSAGE_USAGE));
+        }
+        return new DueTaskCommand(Integer.parseInt(trimmedArgs));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return DueTaskCommand.COMMAND_WORD;
+    }
+}
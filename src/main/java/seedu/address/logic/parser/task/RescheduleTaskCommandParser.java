@@ -60,8 +60,9 @@ public class RescheduleTaskCommandParser implements Parser<RescheduleTaskCommand
         try {
             BiConsumer<String, String> consumer = (matchedGroup, token) -> {
                 String time = matchedGroup.substring(token.length(), matchedGroup.length());
-                if (DateTimeParserUtil.containsTime(time)) {
-                    dateTimeMap.put(token, DateTimeParserUtil.nattyParseDateTime(time));
+                Optional<LocalDateTime> dateTime = DateTimeParserUtil.parseDateTime(time);
+                if (dateTime.isPresent()) {
+                    dateTimeMap.put(token, dateTime);
                 }
             };
 
@@ -2,26 +2,31 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.alias.AliasToken;
+import seedu.address.model.alias.Keyword;
 import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.alias.UniqueAliasTokenList;
 import seedu.address.model.alias.exceptions.DuplicateTokenKeywordException;
 import seedu.address.model.alias.exceptions.TokenKeywordNotFoundException;
+import seedu.address.model.person.BirthdayIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 import seedu.address.model.tag.UniqueTagList;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskTimeIndex;
 import seedu.address.model.task.UniqueTaskList;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
@@ -33,16 +38,18 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private final UniqueTagList tags;
+    private final TagDictionary tags;
     private final UniqueAliasTokenList aliasTokens;
     private final UniqueTaskList tasks;
+    // the deltas the changes to this address book are currently recorded in
+    private final List<AddressBookDelta> openDeltas = new ArrayList<>();
 
     /**
      * Creates a new AddressBook with all data
      */
     public AddressBook() {
         this.persons = new UniquePersonList();
-        this.tags = new UniqueTagList();
+        this.tags = new TagDictionary();
         this.aliasTokens = new UniqueAliasTokenList();
         this.tasks = new UniqueTaskList();
     }
@@ -58,18 +65,17 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
 
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
+        recordDataReset();
         this.persons.setPersons(persons);
     }
 
-    public void setTags(Set<Tag> tags) {
-        this.tags.setTags(tags);
-    }
-
     public void setAliasTokens(List<? extends ReadOnlyAliasToken> aliasTokens) throws DuplicateTokenKeywordException {
+        recordDataReset();
         this.aliasTokens.setAliasTokens(aliasTokens);
     }
 
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws DuplicateTaskException {
+        recordDataReset();
         this.tasks.setTasks(tasks);
     }
 
@@ -78,27 +84,92 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+        recordDataReset();
+
+        tags.clear();
+        try {
+            for (Tag tag : newData.getTagList()) {
+                if (!tags.contains(tag)) {
+                    tags.add(tag);
+                }
+            }
+        } catch (UniqueTagList.DuplicateTagException e) {
+            assert false : "Only tags not yet in the dictionary are added";
+        }
+
+        final List<Person> newPersons = new ArrayList<>(newData.getPersonList().size());
+        for (ReadOnlyPerson person : newData.getPersonList()) {
+            Person newPerson = new Person(person);
+            syncMasterTagListWith(newPerson);
+            newPersons.add(newPerson);
+        }
         try {
-            setPersons(newData.getPersonList());
+            persons.setPersons(newPersons);
         } catch (DuplicatePersonException e) {
             assert false : "AddressBook should not have duplicate persons";
         }
 
-        setTags(new HashSet<>(newData.getTagList()));
-
         try {
-            setAliasTokens(newData.getAliasTokenList());
+            aliasTokens.setAliasTokens(newData.getAliasTokenList());
         } catch (DuplicateTokenKeywordException e) {
             assert false : "AddressBook should not have duplicate aliases";
         }
 
         try {
-            setTasks(newData.getTaskList());
+            tasks.setTasks(newData.getTaskList());
         } catch (DuplicateTaskException e) {
             assert false : "AddressBook should not have duplicate tasks";
         }
+    }
+
+    // ================ Change recording ==============================
+
+    /**
+     * Returns a new delta that records every change made to this {@code AddressBook} until it is passed to
+     * {@link #endDelta(AddressBookDelta)}. Several deltas can be open at the same time.
+     */
+    public AddressBookDelta beginDelta() {
+        AddressBookDelta delta = new AddressBookDelta();
+        openDeltas.add(delta);
+        return delta;
+    }
 
-        syncMasterTagListWith(persons);
+    /**
+     * Stops recording changes in {@code delta}.
+     */
+    public void endDelta(AddressBookDelta delta) {
+        requireNonNull(delta);
+        boolean wasOpen = openDeltas.remove(delta);
+        assert wasOpen : "The delta is not recording changes";
+    }
+
+    /**
+     * Reverts the changes of {@code delta}, which must be the latest changes made to this {@code AddressBook}
+     * and must no longer be recording. The reverting changes are recorded in the deltas that are still open.
+     */
+    public void revert(AddressBookDelta delta) {
+        requireNonNull(delta);
+        assert !openDeltas.contains(delta) : "Cannot revert a delta that is still recording changes";
+        delta.revert(this);
+    }
+
+    private boolean isRecording() {
+        return !openDeltas.isEmpty();
+    }
+
+    private void record(AddressBookChange change) {
+        for (AddressBookDelta delta : openDeltas) {
+            delta.add(change);
+        }
+    }
+
+    /**
+     * Records that all the data of this {@code AddressBook} is about to be replaced.
+     */
+    private void recordDataReset() {
+        if (isRecording()) {
+            record(AddressBookChange.dataReset(snapshot()));
+        }
     }
 
     // ================ Person-level operations ==============================
@@ -108,6 +179,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Sorts the list.
      */
     public void sortList(String toSort) {
+        if (isRecording()) {
+            record(AddressBookChange.personsReordered(persons.getSnapshot(), toSort));
+        }
         persons.sort(toSort);
     }
 
@@ -122,10 +196,30 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addPerson(ReadOnlyPerson p) throws DuplicatePersonException {
         Person newPerson = new Person(p);
         syncMasterTagListWith(newPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(newPerson);
+        try {
+            persons.add(newPerson);
+        } catch (DuplicatePersonException dpe) {
+            tags.release(newPerson.getTags());
+            throw dpe;
+        }
+        record(AddressBookChange.personAdded(persons.indexOf(newPerson), copyIfRecording(newPerson)));
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index}, like {@link #addPerson(ReadOnlyPerson)}.
+     *
+     * @throws DuplicatePersonException if an equivalent person already exists.
+     */
+    public void insertPerson(int index, ReadOnlyPerson p) throws DuplicatePersonException {
+        Person newPerson = new Person(p);
+        syncMasterTagListWith(newPerson);
+        try {
+            persons.add(index, newPerson);
+        } catch (DuplicatePersonException dpe) {
+            tags.release(newPerson.getTags());
+            throw dpe;
+        }
+        record(AddressBookChange.personAdded(index, copyIfRecording(newPerson)));
     }
 
     /**
@@ -142,42 +236,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedReadOnlyPerson);
 
         Person editedPerson = new Person(editedReadOnlyPerson);
+        ReadOnlyPerson personToReplace = getStoredPerson(target);
         syncMasterTagListWith(editedPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.setPerson(target, editedPerson);
+        try {
+            persons.setPerson(target, editedPerson);
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            tags.release(editedPerson.getTags());
+            throw e;
+        }
+        tags.release(personToReplace.getTags());
+        record(AddressBookChange.personReplaced(personToReplace, copyIfRecording(editedPerson)));
     }
 
     /**
      * Ensures that every tag in this person:
      * - exists in the master list {@link #tags}
      * - points to a Tag object in the master list
+     * and records the person's references to those tags, so that they can be released with
+     * {@link TagDictionary#release(java.util.Set)} when the person leaves the address book.
      */
     private void syncMasterTagListWith(Person person) {
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        person.setTags(correctTagReferences);
-    }
-
-    /**
-     * Ensures that every tag in these persons:
-     * - exists in the master list {@link #tags}
-     * - points to a Tag object in the master list
-     *
-     * @see #syncMasterTagListWith(Person)
-     */
-    private void syncMasterTagListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterTagListWith);
+        person.setTags(tags.acquire(person.getTags()));
     }
 
     /**
@@ -186,20 +265,69 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
     public boolean removePerson(ReadOnlyPerson key) throws PersonNotFoundException {
+        int index = persons.indexOf(key);
+        ReadOnlyPerson personToRemove = getStoredPerson(key);
         if (persons.remove(key)) {
+            tags.release(personToRemove.getTags());
+            record(AddressBookChange.personRemoved(index, personToRemove));
             return true;
         } else {
             throw new PersonNotFoundException();
         }
     }
 
+    /**
+     * Returns the person in this {@code AddressBook} that is equivalent to {@code key}.
+     *
+     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     */
+    private ReadOnlyPerson getStoredPerson(ReadOnlyPerson key) throws PersonNotFoundException {
+        int index = persons.indexOf(key);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return persons.asObservableList().get(index);
+    }
+
+    /**
+     * Returns a copy of {@code person} to record in a change, or {@code person} itself if changes are not being
+     * recorded. Recorded changes are written by the storage thread while persons in the list are changed in place
+     * by hiding, pinning and selecting them, so a change must never hold a person that may be in the list, even
+     * though {@code UniquePersonList} currently stores copies of the persons it is given.
+     */
+    private ReadOnlyPerson copyIfRecording(Person person) {
+        return isRecording() ? new Person(person) : person;
+    }
+
+    /**
+     * Returns a copy of the person in this {@code AddressBook} that is equivalent to {@code key},
+     * or null if changes are not being recorded.
+     *
+     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     */
+    private Person copyOfStoredPersonIfRecording(ReadOnlyPerson key) throws PersonNotFoundException {
+        return isRecording() ? new Person(getStoredPerson(key)) : null;
+    }
+
+    /**
+     * Records that the person equivalent to {@code key} was changed in place from {@code before},
+     * if changes are being recorded.
+     */
+    private void recordPersonReplaced(Person before, ReadOnlyPerson key) throws PersonNotFoundException {
+        if (before != null) {
+            record(AddressBookChange.personReplaced(before, new Person(getStoredPerson(key))));
+        }
+    }
+
     /**
      * Hides (@code toHide) from this {@code AddressBook}.
      *
      * @throws PersonNotFoundException if the {@code toHide} is not in this {@code AddressBook}.
      */
     public boolean hidePerson(ReadOnlyPerson toHide) throws PersonNotFoundException {
+        Person before = copyOfStoredPersonIfRecording(toHide);
         if (persons.hide(toHide)) {
+            recordPersonReplaced(before, toHide);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -212,7 +340,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code toHide} is not in this {@code AddressBook}.
      */
     public boolean unhidePerson(ReadOnlyPerson toUnhide) throws PersonNotFoundException {
+        Person before = copyOfStoredPersonIfRecording(toUnhide);
         if (persons.unhide(toUnhide)) {
+            recordPersonReplaced(before, toUnhide);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -226,7 +356,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code toPin} is not in this {@code AddressBook}.
      */
     public boolean pinPerson(ReadOnlyPerson toPin) throws PersonNotFoundException {
+        Person before = copyOfStoredPersonIfRecording(toPin);
         if (persons.pin(toPin)) {
+            recordPersonReplaced(before, toPin);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -239,7 +371,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code toUnpin} is not in this {@code AddressBook}.
      */
     public boolean unpinPerson(ReadOnlyPerson toUnpin) throws PersonNotFoundException {
+        Person before = copyOfStoredPersonIfRecording(toUnpin);
         if (persons.unpin(toUnpin)) {
+            recordPersonReplaced(before, toUnpin);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -253,7 +387,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code toSelect} is not in this {@code AddressBook}.
      */
     public boolean selectPerson(ReadOnlyPerson toSelect) throws PersonNotFoundException {
+        Person before = copyOfStoredPersonIfRecording(toSelect);
         if (persons.select(toSelect)) {
+            recordPersonReplaced(before, toSelect);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -266,7 +402,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code toDeselect} is not in this {@code AddressBook}.
      */
     public boolean deselectPerson(ReadOnlyPerson toDeselect) throws PersonNotFoundException {
+        Person before = copyOfStoredPersonIfRecording(toDeselect);
         if (persons.deselect(toDeselect)) {
+            recordPersonReplaced(before, toDeselect);
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -274,8 +412,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     // ================ Tag-level operations ==============================
+
+    /**
+     * Declares a tag that is not referred to by any person yet.
+     *
+     * @throws UniqueTagList.DuplicateTagException if an equivalent tag already exists.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
+        record(AddressBookChange.tagDeclared(t));
+    }
+
+    /**
+     * Removes a tag declared with {@link #addTag(Tag)} that no person refers to.
+     */
+    public void removeTag(Tag t) {
+        if (tags.remove(t)) {
+            record(AddressBookChange.tagRemoved(t));
+        }
     }
 
     //@@author deep4k
@@ -287,6 +441,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAliasToken(ReadOnlyAliasToken toAdd) throws DuplicateTokenKeywordException {
         aliasTokens.add(toAdd);
+        record(AddressBookChange.aliasTokenAdded(aliasTokens.size() - 1, new AliasToken(toAdd)));
+    }
+
+    /**
+     * Inserts an alias token at {@code index}.
+     *
+     * @throws DuplicateTokenKeywordException if another token with same keyword exists.
+     */
+    public void insertAliasToken(int index, ReadOnlyAliasToken toAdd) throws DuplicateTokenKeywordException {
+        aliasTokens.add(index, toAdd);
+        record(AddressBookChange.aliasTokenAdded(index, new AliasToken(toAdd)));
     }
 
     /**
@@ -295,7 +460,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws TokenKeywordNotFoundException if no such tokens exists.
      */
     public boolean removeAliasToken(ReadOnlyAliasToken toRemove) throws TokenKeywordNotFoundException {
+        int index = aliasTokens.indexOf(toRemove);
         if (aliasTokens.remove(toRemove)) {
+            record(AddressBookChange.aliasTokenRemoved(index, new AliasToken(toRemove)));
             return true;
         } else {
             throw new TokenKeywordNotFoundException();
@@ -306,6 +473,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return aliasTokens.size();
     }
 
+    /**
+     * Returns an unmodifiable live view of the alias tokens keyed by their keyword.
+     */
+    public Map<Keyword, ReadOnlyAliasToken> getAliasTokenMap() {
+        return aliasTokens.asUnmodifiableKeywordMap();
+    }
+
     // ================ Task-level operations ==============================
 
     /**
@@ -315,6 +489,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTask(ReadOnlyTask toAdd) throws DuplicateTaskException {
         tasks.add(toAdd);
+        record(AddressBookChange.taskAdded(tasks.indexOf(toAdd), new Task(toAdd)));
+    }
+
+    /**
+     * Inserts a task at {@code index}.
+     *
+     * @throws DuplicateTaskException if an equivalent task already exists
+     */
+    public void insertTask(int index, ReadOnlyTask toAdd) throws DuplicateTaskException {
+        tasks.add(index, toAdd);
+        record(AddressBookChange.taskAdded(index, new Task(toAdd)));
     }
 
     /**
@@ -323,7 +508,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws TaskNotFoundException if no such task exists
      */
     public boolean removeTask(ReadOnlyTask toRemove) throws TaskNotFoundException {
+        int index = tasks.indexOf(toRemove);
+        ReadOnlyTask removed = getStoredTask(index);
         if (tasks.remove(toRemove)) {
+            record(AddressBookChange.taskRemoved(index, removed));
             return true;
         } else {
             throw new TaskNotFoundException();
@@ -340,7 +528,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updateTask(ReadOnlyTask target, ReadOnlyTask updatedTask)
             throws TaskNotFoundException, DuplicateTaskException {
         requireNonNull(updatedTask);
+        int index = tasks.indexOf(target);
+        ReadOnlyTask before = getStoredTask(index);
         tasks.setTask(target, updatedTask);
+        record(AddressBookChange.taskReplaced(before, getStoredTask(index)));
     }
 
     /**
@@ -351,7 +542,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void markTask(ReadOnlyTask toMark)
             throws TaskNotFoundException, DuplicateTaskException {
+        int index = tasks.indexOf(toMark);
+        ReadOnlyTask before = getStoredTask(index);
         tasks.setCompletion(toMark);
+        record(AddressBookChange.taskReplaced(before, getStoredTask(index)));
     }
 
     /**
@@ -362,12 +556,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void unmarkTask(ReadOnlyTask toUnmark)
             throws TaskNotFoundException, DuplicateTaskException {
+        int index = tasks.indexOf(toUnmark);
+        ReadOnlyTask before = getStoredTask(index);
         tasks.setIncompletion(toUnmark);
+        record(AddressBookChange.taskReplaced(before, getStoredTask(index)));
+    }
+
+    /**
+     * Returns the task at {@code index} of the task list, or null if {@code index} is -1.
+     */
+    private ReadOnlyTask getStoredTask(int index) {
+        return index == -1 ? null : tasks.asObservableList().get(index);
     }
     //@@author
 
     // ================ Utility methods ==============================
 
+    /**
+     * Returns an immutable copy of the current data of this address book.
+     * Takes O(1) time, as the copy shares its structure with this address book.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(persons.getSnapshot(), tags.getSnapshot(), aliasTokens.getSnapshot(),
+                tasks.getSnapshot());
+    }
+
     @Override
     public String toString() {
         return persons.asObservableList().size() + " persons, " + tags.asObservableList().size() + " tags, "
@@ -380,6 +593,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asObservableList();
     }
 
+    /**
+     * Returns the search index over the persons of this address book.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns the birthday index over the persons of this address book.
+     */
+    public BirthdayIndex getBirthdayIndex() {
+        return persons.getBirthdayIndex();
+    }
+
     @Override
     public ObservableList<Tag> getTagList() {
         return tags.asObservableList();
@@ -390,6 +617,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return aliasTokens.asObservableList();
     }
 
+    /**
+     * Returns the time index over the tasks of this address book.
+     */
+    public TaskTimeIndex getTaskTimeIndex() {
+        return tasks.getTimeIndex();
+    }
+
     @Override
     public ObservableList<ReadOnlyTask> getTaskList() {
         return tasks.asObservableList();
@@ -0,0 +1,486 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * A single change made to an {@code AddressBook}, recorded as the information needed to revert it
+ * and, except for a reset of all the data, to make it again.
+ *
+ * @see AddressBookDelta
+ */
+abstract class AddressBookChange {
+
+    // estimated size of a change record and its slot in the delta
+    private static final long RECORD_FOOTPRINT = 32;
+    // estimated size of a copied person, task, alias token or tag, excluding its text
+    private static final long ELEMENT_FOOTPRINT = 256;
+    // estimated size of a node of a PersistentVector
+    private static final long NODE_FOOTPRINT = 40;
+
+    /**
+     * Reverts this change in {@code addressBook}, which must be in the state right after the change was made.
+     */
+    abstract void revert(AddressBook addressBook);
+
+    /**
+     * Returns an estimate of the memory held by this change, in bytes.
+     */
+    abstract long getFootprint();
+
+    /**
+     * Passes this change to the matching method of {@code handler}.
+     */
+    abstract void replay(AddressBookChangeHandler handler);
+
+    static AddressBookChange personAdded(int index, ReadOnlyPerson person) {
+        return new PersonAdded(index, person);
+    }
+
+    static AddressBookChange personRemoved(int index, ReadOnlyPerson person) {
+        return new PersonRemoved(index, person);
+    }
+
+    static AddressBookChange personReplaced(ReadOnlyPerson before, ReadOnlyPerson after) {
+        return new PersonReplaced(before, after);
+    }
+
+    static AddressBookChange personsReordered(List<ReadOnlyPerson> previousOrder, String sortKey) {
+        return new PersonsReordered(previousOrder, sortKey);
+    }
+
+    static AddressBookChange tagDeclared(Tag tag) {
+        return new TagDeclared(tag);
+    }
+
+    static AddressBookChange tagRemoved(Tag tag) {
+        return new TagRemoved(tag);
+    }
+
+    static AddressBookChange aliasTokenAdded(int index, ReadOnlyAliasToken token) {
+        return new AliasTokenAdded(index, token);
+    }
+
+    static AddressBookChange aliasTokenRemoved(int index, ReadOnlyAliasToken token) {
+        return new AliasTokenRemoved(index, token);
+    }
+
+    static AddressBookChange taskAdded(int index, ReadOnlyTask task) {
+        return new TaskAdded(index, task);
+    }
+
+    static AddressBookChange taskRemoved(int index, ReadOnlyTask task) {
+        return new TaskRemoved(index, task);
+    }
+
+    static AddressBookChange taskReplaced(ReadOnlyTask before, ReadOnlyTask after) {
+        return new TaskReplaced(before, after);
+    }
+
+    static AddressBookChange dataReset(ReadOnlyAddressBook previousData) {
+        return new DataReset(previousData);
+    }
+
+    /**
+     * Returns an estimate of the memory held by a copy of {@code element}, in bytes.
+     */
+    private static long estimateFootprint(Object element) {
+        return ELEMENT_FOOTPRINT + 2L * element.toString().length();
+    }
+
+    /**
+     * Throws an {@code AssertionError} for a change that cannot be reverted because
+     * the address book is not in the state the change left it in.
+     */
+    private static AssertionError revertFailed(Exception cause) {
+        return new AssertionError("The address book should be in the state the change left it in", cause);
+    }
+
+    // ================ Person changes ==============================
+
+    /**
+     * A person added at {@code index} of the person list.
+     */
+    private static class PersonAdded extends AddressBookChange {
+        private final int index;
+        private final ReadOnlyPerson person;
+
+        PersonAdded(int index, ReadOnlyPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.removePerson(person);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(person);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.personAdded(index, person);
+        }
+    }
+
+    /**
+     * A person removed from {@code index} of the person list.
+     */
+    private static class PersonRemoved extends AddressBookChange {
+        private final int index;
+        private final ReadOnlyPerson person;
+
+        PersonRemoved(int index, ReadOnlyPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.insertPerson(index, person);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(person);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.personRemoved(person);
+        }
+    }
+
+    /**
+     * A person replaced by another, or changed in place.
+     */
+    private static class PersonReplaced extends AddressBookChange {
+        private final ReadOnlyPerson before;
+        private final ReadOnlyPerson after;
+
+        PersonReplaced(ReadOnlyPerson before, ReadOnlyPerson after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.updatePerson(after, before);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(before) + estimateFootprint(after);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.personReplaced(before, after);
+        }
+    }
+
+    /**
+     * The person list sorted by {@code sortKey} from {@code previousOrder}.
+     */
+    private static class PersonsReordered extends AddressBookChange {
+        private final List<ReadOnlyPerson> previousOrder;
+        private final String sortKey;
+
+        PersonsReordered(List<ReadOnlyPerson> previousOrder, String sortKey) {
+            this.previousOrder = previousOrder;
+            this.sortKey = sortKey;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.setPersons(previousOrder);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            // the previous order shares its persons with the address book, but not its tree nodes
+            return RECORD_FOOTPRINT + NODE_FOOTPRINT * previousOrder.size();
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.personsSorted(sortKey);
+        }
+    }
+
+    // ================ Tag changes ==============================
+
+    /**
+     * A tag declared without any person referring to it.
+     */
+    private static class TagDeclared extends AddressBookChange {
+        private final Tag tag;
+
+        TagDeclared(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.removeTag(tag);
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT;
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.tagDeclared(tag);
+        }
+    }
+
+    /**
+     * A declared tag removed from the address book.
+     */
+    private static class TagRemoved extends AddressBookChange {
+        private final Tag tag;
+
+        TagRemoved(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.addTag(tag);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT;
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.tagRemoved(tag);
+        }
+    }
+
+    // ================ Alias changes ==============================
+
+    /**
+     * An alias token added at {@code index} of the alias list.
+     */
+    private static class AliasTokenAdded extends AddressBookChange {
+        private final int index;
+        private final ReadOnlyAliasToken token;
+
+        AliasTokenAdded(int index, ReadOnlyAliasToken token) {
+            this.index = index;
+            this.token = token;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.removeAliasToken(token);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(token);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.aliasTokenAdded(index, token);
+        }
+    }
+
+    /**
+     * An alias token removed from {@code index} of the alias list.
+     */
+    private static class AliasTokenRemoved extends AddressBookChange {
+        private final int index;
+        private final ReadOnlyAliasToken token;
+
+        AliasTokenRemoved(int index, ReadOnlyAliasToken token) {
+            this.index = index;
+            this.token = token;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.insertAliasToken(index, token);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(token);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.aliasTokenRemoved(token);
+        }
+    }
+
+    // ================ Task changes ==============================
+
+    /**
+     * A task added at {@code index} of the task list.
+     */
+    private static class TaskAdded extends AddressBookChange {
+        private final int index;
+        private final ReadOnlyTask task;
+
+        TaskAdded(int index, ReadOnlyTask task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.removeTask(task);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(task);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.taskAdded(index, task);
+        }
+    }
+
+    /**
+     * A task removed from {@code index} of the task list.
+     */
+    private static class TaskRemoved extends AddressBookChange {
+        private final int index;
+        private final ReadOnlyTask task;
+
+        TaskRemoved(int index, ReadOnlyTask task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.insertTask(index, task);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(task);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.taskRemoved(task);
+        }
+    }
+
+    /**
+     * A task replaced by another, such as its completed version.
+     */
+    private static class TaskReplaced extends AddressBookChange {
+        private final ReadOnlyTask before;
+        private final ReadOnlyTask after;
+
+        TaskReplaced(ReadOnlyTask before, ReadOnlyTask after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            try {
+                addressBook.updateTask(after, before);
+            } catch (Exception e) {
+                throw revertFailed(e);
+            }
+        }
+
+        @Override
+        long getFootprint() {
+            return RECORD_FOOTPRINT + estimateFootprint(before) + estimateFootprint(after);
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.taskReplaced(before, after);
+        }
+    }
+
+    // ================ Whole address book changes ==============================
+
+    /**
+     * All the data of the address book replaced, such as by {@code clear}.
+     */
+    private static class DataReset extends AddressBookChange {
+        private final ReadOnlyAddressBook previousData;
+
+        DataReset(ReadOnlyAddressBook previousData) {
+            this.previousData = previousData;
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.resetData(previousData);
+        }
+
+        @Override
+        long getFootprint() {
+            // the previous data stays reachable through this change alone once the address book is reset
+            long elementCount = previousData.getPersonList().size() + previousData.getTagList().size()
+                    + previousData.getAliasTokenList().size() + previousData.getTaskList().size();
+            return RECORD_FOOTPRINT + (ELEMENT_FOOTPRINT + NODE_FOOTPRINT) * elementCount;
+        }
+
+        @Override
+        void replay(AddressBookChangeHandler handler) {
+            handler.dataReset();
+        }
+    }
+}
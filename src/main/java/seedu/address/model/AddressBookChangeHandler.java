@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Receives the changes of an {@code AddressBookDelta} in the order they were made,
+ * each described by what is needed to make it again on the address book it was made on.
+ *
+ * @see AddressBookDelta#replay(AddressBookChangeHandler)
+ */
+public interface AddressBookChangeHandler {
+
+    /**
+     * Called for {@code person} inserted at {@code index} of the person list.
+     */
+    void personAdded(int index, ReadOnlyPerson person);
+
+    void personRemoved(ReadOnlyPerson person);
+
+    void personReplaced(ReadOnlyPerson before, ReadOnlyPerson after);
+
+    /**
+     * Called for the person list sorted with {@link AddressBook#sortList(String)} by {@code sortKey}.
+     */
+    void personsSorted(String sortKey);
+
+    void tagDeclared(Tag tag);
+
+    void tagRemoved(Tag tag);
+
+    /**
+     * Called for {@code token} inserted at {@code index} of the alias list.
+     */
+    void aliasTokenAdded(int index, ReadOnlyAliasToken token);
+
+    void aliasTokenRemoved(ReadOnlyAliasToken token);
+
+    /**
+     * Called for {@code task} inserted at {@code index} of the task list.
+     */
+    void taskAdded(int index, ReadOnlyTask task);
+
+    void taskRemoved(ReadOnlyTask task);
+
+    void taskReplaced(ReadOnlyTask before, ReadOnlyTask after);
+
+    /**
+     * Called when all the data of the address book was replaced. The new data is not part of the change,
+     * so it has to be taken from the address book itself.
+     */
+    void dataReset();
+}
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The changes made to an {@code AddressBook} over a period of time, kept as the information needed to revert them.
+ * A delta only holds what the changes touched, so it is much smaller than a copy of the whole address book.
+ *
+ * @see Model#beginDelta()
+ */
+public class AddressBookDelta {
+
+    private final List<AddressBookChange> changes = new ArrayList<>();
+    private long footprint = 0;
+
+    /**
+     * Appends {@code change} as the latest change of this delta.
+     */
+    void add(AddressBookChange change) {
+        requireNonNull(change);
+        changes.add(change);
+        footprint += change.getFootprint();
+    }
+
+    /**
+     * Appends the changes of {@code later}, which were made after those of this delta.
+     */
+    public void addAll(AddressBookDelta later) {
+        requireNonNull(later);
+        changes.addAll(later.changes);
+        footprint += later.footprint;
+    }
+
+    /**
+     * Reverts every change of this delta in {@code addressBook}, latest first.
+     */
+    void revert(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+    }
+
+    /**
+     * Passes every change of this delta to {@code handler}, earliest first.
+     */
+    public void replay(AddressBookChangeHandler handler) {
+        requireNonNull(handler);
+        for (AddressBookChange change : changes) {
+            change.replay(handler);
+        }
+    }
+
+    /**
+     * Returns the number of changes in this delta.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns an estimate of the memory held by this delta, in bytes.
+     */
+    public long getFootprint() {
+        return footprint;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * An immutable copy of the data of an {@code AddressBook} at one point in time.
+ * Shares its structure with the address book it was taken from, so taking one takes O(1) time.
+ *
+ * @see AddressBook#snapshot()
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+    private final ObservableList<ReadOnlyAliasToken> aliasTokens;
+    private final ObservableList<ReadOnlyTask> tasks;
+
+    AddressBookSnapshot(List<ReadOnlyPerson> persons, List<Tag> tags, List<ReadOnlyAliasToken> aliasTokens,
+                        List<ReadOnlyTask> tasks) {
+        requireAllNonNull(persons, tags, aliasTokens, tasks);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+        this.aliasTokens = FXCollections.unmodifiableObservableList(FXCollections.observableList(aliasTokens));
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyAliasToken> getAliasTokenList() {
+        return aliasTokens;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyTask> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() + " tags, " + aliasTokens.size() + " aliases, "
+                + tasks.size() + " tasks";
+    }
+}
@@ -1,16 +1,21 @@
 package seedu.address.model;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.alias.Keyword;
 import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.alias.exceptions.DuplicateTokenKeywordException;
 import seedu.address.model.alias.exceptions.TokenKeywordNotFoundException;
+import seedu.address.model.person.BirthdayIndex;
+import seedu.address.model.person.PersonHasKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.TaskTimeIndex;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
@@ -42,6 +47,35 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a new delta that records the changes made to the AddressBook until it is passed to
+     * {@link #endDelta(AddressBookDelta)}, so that they can be reverted later.
+     */
+    AddressBookDelta beginDelta();
+
+    /**
+     * Stops recording changes in {@code delta}.
+     */
+    void endDelta(AddressBookDelta delta);
+
+    /**
+     * Reverts the changes of {@code delta}, which must be the latest changes made to the AddressBook.
+     */
+    void revertDelta(AddressBookDelta delta);
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatch()}, changes to the AddressBook do not raise
+     * {@code AddressBookChangedEvent}. Batches can be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. When the outermost batch ends, a single
+     * {@code AddressBookChangedEvent} is raised with all the changes made during it, if there were any.
+     * Changes are not rolled back, so a batch should be ended in a {@code finally} block.
+     */
+    void endBatch();
+
     // ================ Related to Persons ==============================
 
     /**
@@ -118,6 +152,19 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matching {@code predicate},
+     * looking them up in the search index of the address book.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersons(PersonHasKeywordsPredicate predicate);
+
+    /**
+     * Returns the index of the persons of the address book by the day and month of their birthday.
+     */
+    BirthdayIndex getBirthdayIndex();
+
     //@@author deep4k
     // ================ Related to AliasTokens ==============================
 
@@ -136,6 +183,11 @@ public interface Model {
      */
     int getAliasTokenCount();
 
+    /**
+     * Returns an unmodifiable live view of the AliasTokens keyed by their keyword
+     */
+    Map<Keyword, ReadOnlyAliasToken> getAliasTokenMap();
+
     /**
      * Returns an unmodifiable view of the filtered AliasToken list
      */
@@ -182,5 +234,10 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTaskList(Predicate<ReadOnlyTask> predicate);
+
+    /**
+     * Returns the time index over the tasks of the address book, for range and due-date queries.
+     */
+    TaskTimeIndex getTaskTimeIndex();
     //@@author
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,13 +15,17 @@ import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AliasTokenChangedEvent;
+import seedu.address.model.alias.Keyword;
 import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.alias.exceptions.DuplicateTokenKeywordException;
 import seedu.address.model.alias.exceptions.TokenKeywordNotFoundException;
+import seedu.address.model.person.BirthdayIndex;
+import seedu.address.model.person.PersonHasKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.TaskTimeIndex;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
@@ -35,6 +40,10 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<ReadOnlyPerson> filteredPersons;
     private final FilteredList<ReadOnlyAliasToken> filteredAliases;
     private final FilteredList<ReadOnlyTask> filteredTasks;
+    // the changes made since the last AddressBookChangedEvent
+    private AddressBookDelta unannouncedChanges;
+    private int batchDepth = 0;
+    private boolean isChangedInBatch = false;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -49,6 +58,7 @@ public class ModelManager extends ComponentManager implements Model {
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredAliases = new FilteredList<>(this.addressBook.getAliasTokenList());
         filteredTasks = new FilteredList<>(this.addressBook.getTaskList());
+        unannouncedChanges = this.addressBook.beginDelta();
     }
 
     public ModelManager() {
@@ -74,13 +84,53 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookDelta beginDelta() {
+        return addressBook.beginDelta();
+    }
+
+    @Override
+    public void endDelta(AddressBookDelta delta) {
+        addressBook.endDelta(delta);
+    }
+
+    @Override
+    public synchronized void revertDelta(AddressBookDelta delta) {
+        requireNonNull(delta);
+        addressBook.revert(delta);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public synchronized void beginBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public synchronized void endBatch() {
+        assert batchDepth > 0 : "No batch to end";
+        batchDepth--;
+        if (batchDepth == 0 && isChangedInBatch) {
+            isChangedInBatch = false;
+            indicateAddressBookChanged();
+        }
+    }
+
     // ================ Event-raising indicators ==============================
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, with the changes made since the previous event.
+     * Inside a batch, the event is deferred until the batch ends.
      */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+        if (batchDepth > 0) {
+            isChangedInBatch = true;
+            return;
+        }
+        AddressBookDelta changes = unannouncedChanges;
+        addressBook.endDelta(changes);
+        unannouncedChanges = addressBook.beginDelta();
+        raise(new AddressBookChangedEvent(addressBook.snapshot(), changes));
     }
 
     private void indicateAliasTokenAdded(ReadOnlyAliasToken token) {
@@ -176,6 +226,11 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook.getAliasTokenCount();
     }
 
+    @Override
+    public Map<Keyword, ReadOnlyAliasToken> getAliasTokenMap() {
+        return addressBook.getAliasTokenMap();
+    }
+
     // ================ Filtered-alias list accessors ==============================
 
     @Override
@@ -200,6 +255,17 @@ public class ModelManager extends ComponentManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void findPersons(PersonHasKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(predicate.using(addressBook.getPersonSearchIndex()));
+    }
+
+    @Override
+    public BirthdayIndex getBirthdayIndex() {
+        return addressBook.getBirthdayIndex();
+    }
+
     // ================ Task-Related methods ==============================
     @Override
     public synchronized void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
@@ -224,19 +290,29 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public synchronized void markTasks(List<ReadOnlyTask> targets)
             throws TaskNotFoundException, DuplicateTaskException {
-        for (ReadOnlyTask target : targets) {
-            addressBook.markTask(target);
+        beginBatch();
+        try {
+            for (ReadOnlyTask target : targets) {
+                addressBook.markTask(target);
+                indicateAddressBookChanged();
+            }
+        } finally {
+            endBatch();
         }
-        indicateAddressBookChanged();
     }
 
     @Override
     public synchronized void unmarkTasks(List<ReadOnlyTask> targets)
             throws TaskNotFoundException, DuplicateTaskException {
-        for (ReadOnlyTask target : targets) {
-            addressBook.unmarkTask(target);
+        beginBatch();
+        try {
+            for (ReadOnlyTask target : targets) {
+                addressBook.unmarkTask(target);
+                indicateAddressBookChanged();
+            }
+        } finally {
+            endBatch();
         }
-        indicateAddressBookChanged();
     }
 
     // ================ Filtered-task list accessors ==============================
@@ -255,6 +331,11 @@ public class ModelManager extends ComponentManager implements Model {
         requireNonNull(predicate);
         filteredTasks.setPredicate(predicate);
     }
+
+    @Override
+    public TaskTimeIndex getTaskTimeIndex() {
+        return addressBook.getTaskTimeIndex();
+    }
     //@@author deep4k
 
     // ================ Utility methods ==============================
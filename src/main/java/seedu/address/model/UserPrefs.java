@@ -11,6 +11,9 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private String addressBookFilePath = "data/addressbook.xml";
+    private String addressBookStorageFormat = "xml";
+    private String addressBookCompression = "none";
+    private int addressBookCompressionLevel = -1;
     private String addressBookName = "Bluebird";
 
     public UserPrefs() {
@@ -37,6 +40,30 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public String getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(String addressBookStorageFormat) {
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public String getAddressBookCompression() {
+        return addressBookCompression;
+    }
+
+    public void setAddressBookCompression(String addressBookCompression) {
+        this.addressBookCompression = addressBookCompression;
+    }
+
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
     public String getAddressBookName() {
         return addressBookName;
     }
@@ -58,12 +85,16 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && Objects.equals(addressBookStorageFormat, o.addressBookStorageFormat)
+                && Objects.equals(addressBookCompression, o.addressBookCompression)
+                && addressBookCompressionLevel == o.addressBookCompressionLevel
                 && Objects.equals(addressBookName, o.addressBookName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, addressBookCompression,
+                addressBookCompressionLevel, addressBookName);
     }
 
     @Override
@@ -71,6 +102,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nLocal data file compression : " + addressBookCompression + " level "
+                + addressBookCompressionLevel);
         sb.append("\nAddressBook name : " + addressBookName);
         return sb.toString();
     }
@@ -2,6 +2,8 @@ package seedu.address.model.alias;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 //@@author deep4k
@@ -14,6 +16,7 @@ public class Keyword {
             "Alias keywords should only contain one word with at least 2 letters and it should not be blank";
 
     public static final String KEYWORD_INVALIDATION_REGEX = ".*\\s+.*";
+    private static final Pattern KEYWORD_INVALIDATION_PATTERN = Pattern.compile(KEYWORD_INVALIDATION_REGEX);
 
     public final String keyword;
 
@@ -35,7 +38,7 @@ public class Keyword {
      */
     public static boolean isValidKeyword(String test) {
         String trimmedKeyword = test.trim();
-        return ((!test.matches(KEYWORD_INVALIDATION_REGEX)) && (trimmedKeyword.length() > 1));
+        return ((!KEYWORD_INVALIDATION_PATTERN.matcher(test).matches()) && (trimmedKeyword.length() > 1));
     }
 
     @Override
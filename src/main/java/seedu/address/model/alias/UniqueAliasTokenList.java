@@ -3,8 +3,12 @@ package seedu.address.model.alias;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.fxmisc.easybind.EasyBind;
@@ -14,12 +18,15 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.alias.exceptions.DuplicateTokenKeywordException;
 import seedu.address.model.alias.exceptions.TokenKeywordNotFoundException;
+import seedu.address.model.util.PersistentVector;
 
 //@@author deep4k
 /**
  * A list of alias that enforces no nulls and uniqueness between its elements.
  * <p>
  * Supports minimal set of list operation.
+ * Tokens are indexed by their {@code Keyword}, which is the single source of truth for alias lookups;
+ * the observable list only mirrors the index in insertion order for the UI.
  *
  * @see AliasToken#equals(Object)
  */
@@ -27,6 +34,11 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
     private final ObservableList<AliasToken> internalList = FXCollections.observableArrayList();
     private final ObservableList<ReadOnlyAliasToken> mappedList = EasyBind.map(internalList, (aliasToken)
         -> aliasToken);
+    private final Map<Keyword, AliasToken> keywordMap = new HashMap<>();
+    private final Map<Keyword, ReadOnlyAliasToken> unmodifiableKeywordMap =
+            Collections.unmodifiableMap(keywordMap);
+    // the tokens of internalList, shared with snapshots; stored tokens are replaced rather than mutated
+    private PersistentVector<AliasToken> tokenVector = PersistentVector.empty();
 
     /**
      * Constructs empty AliasTokenList.
@@ -41,8 +53,11 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
     public UniqueAliasTokenList(Set<AliasToken> aliasTokens) {
         requireAllNonNull(aliasTokens);
         internalList.addAll(aliasTokens);
+        aliasTokens.forEach(token -> keywordMap.put(token.getKeyword(), token));
+        tokenVector = PersistentVector.of(internalList);
 
         assert CollectionUtil.elementsAreUnique(internalList);
+        assert keywordMap.size() == internalList.size();
     }
 
     /**
@@ -50,7 +65,7 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
      */
     public boolean contains(ReadOnlyAliasToken toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return toCheck.equals(keywordMap.get(toCheck.getKeyword()));
     }
 
     /**
@@ -60,13 +75,8 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
      * @return true if exists, false otherwise
      */
     public boolean contains(Keyword tokenKeyword) {
-        for (AliasToken token : internalList) {
-            if (token.getKeyword().equals(tokenKeyword)) {
-                return true;
-            }
-        }
-
-        return false;
+        requireNonNull(tokenKeyword);
+        return keywordMap.containsKey(tokenKeyword);
     }
 
     /**
@@ -77,10 +87,37 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
      */
     public void add(ReadOnlyAliasToken toAdd) throws DuplicateTokenKeywordException {
         requireNonNull(toAdd);
-        if (internalList.contains(toAdd.getKeyword())) {
+        if (contains(toAdd.getKeyword())) {
+            throw new DuplicateTokenKeywordException();
+        }
+        AliasToken newToken = new AliasToken(toAdd);
+        keywordMap.put(newToken.getKeyword(), newToken);
+        tokenVector = tokenVector.add(newToken);
+        internalList.add(newToken);
+    }
+
+    /**
+     * Inserts an AliasToken into the list at {@code index}, which must be in [0, size], shifting later tokens back.
+     *
+     * @throws DuplicateTokenKeywordException if the AliasToken to add is a duplicate.
+     */
+    public void add(int index, ReadOnlyAliasToken toAdd) throws DuplicateTokenKeywordException {
+        requireNonNull(toAdd);
+        if (contains(toAdd.getKeyword())) {
             throw new DuplicateTokenKeywordException();
         }
-        internalList.add(new AliasToken(toAdd));
+        AliasToken newToken = new AliasToken(toAdd);
+        tokenVector = tokenVector.add(index, newToken);
+        keywordMap.put(newToken.getKeyword(), newToken);
+        internalList.add(index, newToken);
+    }
+
+    /**
+     * Returns the position of the equivalent AliasToken in the list, or -1 if there is no such token.
+     */
+    public int indexOf(ReadOnlyAliasToken toFind) {
+        requireNonNull(toFind);
+        return contains(toFind) ? internalList.indexOf(keywordMap.get(toFind.getKeyword())) : -1;
     }
 
     /**
@@ -90,11 +127,14 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
      */
     public boolean remove(ReadOnlyAliasToken toRemove) throws TokenKeywordNotFoundException {
         requireNonNull(toRemove);
-        if (!internalList.contains(toRemove)) {
+        if (!contains(toRemove)) {
             throw new TokenKeywordNotFoundException();
         }
-        final boolean aliasFoundAndDeleted = internalList.remove(toRemove);
-        return aliasFoundAndDeleted;
+        AliasToken removedToken = keywordMap.remove(toRemove.getKeyword());
+        int index = internalList.indexOf(removedToken);
+        tokenVector = tokenVector.remove(index);
+        internalList.remove(index);
+        return true;
     }
 
     /**
@@ -108,13 +148,16 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
             throws DuplicateTokenKeywordException, TokenKeywordNotFoundException {
         requireAllNonNull(target, newToken);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new TokenKeywordNotFoundException();
         }
 
         assert target.getKeyword().equals(newToken.getKeyword());
-        internalList.set(index, new AliasToken(newToken));
+        AliasToken replacement = new AliasToken(newToken);
+        AliasToken replaced = keywordMap.put(replacement.getKeyword(), replacement);
+        int index = internalList.indexOf(replaced);
+        tokenVector = tokenVector.set(index, replacement);
+        internalList.set(index, replacement);
     }
 
     /**
@@ -124,21 +167,46 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
      */
     public void setAliasTokens(UniqueAliasTokenList replacement) {
         requireAllNonNull(replacement);
+        tokenVector = replacement.tokenVector;
         internalList.setAll(replacement.internalList);
+        keywordMap.clear();
+        keywordMap.putAll(replacement.keywordMap);
     }
 
+    /**
+     * Replaces the contents of this list with copies of {@code aliasTokens}, building the keyword index
+     * in a single pass.
+     *
+     * @throws DuplicateTokenKeywordException if two of {@code aliasTokens} share a keyword.
+     */
     public void setAliasTokens(List<? extends ReadOnlyAliasToken> aliasTokens) throws DuplicateTokenKeywordException {
-        final UniqueAliasTokenList replacement = new UniqueAliasTokenList();
+        final List<AliasToken> replacementList = new ArrayList<>(aliasTokens.size());
+        final Map<Keyword, AliasToken> replacementMap = new HashMap<>();
         for (final ReadOnlyAliasToken aliasToken : aliasTokens) {
-            replacement.add(new AliasToken(aliasToken));
+            AliasToken newToken = new AliasToken(aliasToken);
+            if (replacementMap.putIfAbsent(newToken.getKeyword(), newToken) != null) {
+                throw new DuplicateTokenKeywordException();
+            }
+            replacementList.add(newToken);
         }
-        setAliasTokens(replacement);
+        tokenVector = PersistentVector.of(replacementList);
+        internalList.setAll(replacementList);
+        keywordMap.clear();
+        keywordMap.putAll(replacementMap);
     }
 
     public int size() {
         return internalList.size();
     }
 
+    /**
+     * Returns an immutable copy of the tokens in this list, in order. Takes O(1) time, as the copy shares
+     * its structure with this list.
+     */
+    public List<ReadOnlyAliasToken> getSnapshot() {
+        return Collections.unmodifiableList(tokenVector.asList());
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -146,6 +214,14 @@ public class UniqueAliasTokenList implements Iterable<AliasToken> {
         return FXCollections.unmodifiableObservableList(mappedList);
     }
 
+    /**
+     * Returns an unmodifiable live view of the keyword index.
+     * The view reflects every later change to this list, including wholesale replacement of its contents.
+     */
+    public Map<Keyword, ReadOnlyAliasToken> asUnmodifiableKeywordMap() {
+        return unmodifiableKeywordMap;
+    }
+
     @Override
     public Iterator<AliasToken> iterator() {
         return internalList.iterator();
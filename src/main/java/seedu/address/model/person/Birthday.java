@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.MonthDay;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 //@@author hymss
@@ -26,8 +30,11 @@ public class Birthday {
             + "(?:(?:(?:1[6-9]|[2-9]\\d)?(?:0[48]|[2468][048]|[13579][26])|(?:(?:16|[2468][048]|[3579][26])00))))$"
             + "|^(?:0?[1-9]|1\\d|2[0-8])(\\/|-|\\.)(?:(?:0?[1-9])|(?:1[0-2]))\\4(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$";
 
+    private static final Pattern BIRTHDAY_VALIDATION_PATTERN = Pattern.compile(BIRTHDAY_VALIDATION_REGEX);
+    private static final Pattern DATE_SEPARATOR_PATTERN = Pattern.compile("[/.-]");
 
     public final String value;
+    private final MonthDay monthDay;
 
     /**
      * Validates given birthday
@@ -42,6 +49,7 @@ public class Birthday {
             throw new IllegalValueException(MESSAGE_BIRTHDAY_CONSTRAINTS);
         }
         this.value = birthday;
+        this.monthDay = parseMonthDay(trimmedBirthday);
     }
 
     /**
@@ -54,12 +62,29 @@ public class Birthday {
             throw new IllegalValueException(MESSAGE_BIRTHDAY_CONSTRAINTS);
         }
         this.value = " ";
+        this.monthDay = null;
     }
+
     /**
      * Returns true if a given string is a valid birthday
      */
     public static boolean isValidBirthday(String test) {
-        return test.matches(BIRTHDAY_VALIDATION_REGEX);
+        return BIRTHDAY_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the day and month of a valid birthday in the form DD/MM/YY(YY).
+     */
+    private static MonthDay parseMonthDay(String validBirthday) {
+        String[] parts = DATE_SEPARATOR_PATTERN.split(validBirthday);
+        return MonthDay.of(Integer.parseInt(parts[1]), Integer.parseInt(parts[0]));
+    }
+
+    /**
+     * Returns the day and month of the birthday, or an empty Optional if no birthday was given.
+     */
+    public Optional<MonthDay> getMonthDay() {
+        return Optional.ofNullable(monthDay);
     }
 
     @Override
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An index of the persons in a {@code UniquePersonList} by the day of the year of their birthday.
+ * <p>
+ * There is one bucket for each day of a leap year, so looking up the birthdays on a day only visits the
+ * persons born on that day. Persons without a birthday are not indexed.
+ * <p>
+ * Persons are indexed by identity, so the index must be told about every person that enters or leaves the list.
+ *
+ * @see Birthday#getMonthDay()
+ */
+public class BirthdayIndex {
+
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_YEAR = 2000;
+    private static final MonthDay LEAP_DAY = MonthDay.of(Month.FEBRUARY, 29);
+    private static final MonthDay DAY_BEFORE_LEAP_DAY = MonthDay.of(Month.FEBRUARY, 28);
+
+    private final List<Set<ReadOnlyPerson>> buckets = new ArrayList<>(DAYS_IN_LEAP_YEAR);
+    private int modificationCount = 0;
+
+    public BirthdayIndex() {
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            buckets.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index if it has a birthday.
+     */
+    void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        person.getBirthday().getMonthDay().ifPresent(monthDay -> getBucket(monthDay).add(person));
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        person.getBirthday().getMonthDay().ifPresent(monthDay -> getBucket(monthDay).remove(person));
+        modificationCount++;
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        buckets.forEach(Set::clear);
+        modificationCount++;
+    }
+
+    /**
+     * Returns a number that changes whenever a person is added to or removed from the index.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the indexed persons whose birthday falls on any of {@code monthDays}.
+     * The returned set compares persons by identity.
+     */
+    public Set<ReadOnlyPerson> getPersonsBornOn(Collection<MonthDay> monthDays) {
+        requireNonNull(monthDays);
+        final Set<ReadOnlyPerson> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (MonthDay monthDay : monthDays) {
+            persons.addAll(getBucket(monthDay));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the birthdays celebrated in the {@code days} days starting from {@code from}, in order.
+     * Birthdays on 29 February are celebrated on 28 February in years that are not leap years.
+     */
+    public static Set<MonthDay> getMonthDaysWithin(LocalDate from, int days) {
+        requireNonNull(from);
+        final Set<MonthDay> monthDays = new LinkedHashSet<>();
+        LocalDate date = from;
+        for (int i = 0; i < Math.min(days, DAYS_IN_LEAP_YEAR); i++) {
+            MonthDay monthDay = MonthDay.from(date);
+            monthDays.add(monthDay);
+            if (monthDay.equals(DAY_BEFORE_LEAP_DAY) && !Year.isLeap(date.getYear())) {
+                monthDays.add(LEAP_DAY);
+            }
+            date = date.plusDays(1);
+        }
+        return monthDays;
+    }
+
+    private Set<ReadOnlyPerson> getBucket(MonthDay monthDay) {
+        return buckets.get(monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1);
+    }
+}
@@ -1,54 +1,61 @@
 package seedu.address.model.person;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Set;
 import java.util.function.Predicate;
 
 //@@author hymss
 /**
- * Tests that a {@code ReadOnlyPerson}'s {@code Birthday month and day} matches date of current day with respect to
- * user.
+ * Tests that a {@code ReadOnlyPerson}'s {@code Birthday month and day} falls within a number of days from a date,
+ * by default the current day with respect to the user.
  */
 
 public class CheckBirthdays implements Predicate<ReadOnlyPerson> {
 
-    public CheckBirthdays() {
+    private final LocalDate from;
+    private final int days;
+    private final Set<MonthDay> monthDays;
 
+    public CheckBirthdays() {
+        this(LocalDate.now(), 1);
     }
 
+    //@@author
     /**
-     * Checks if a person's birthday falls on the current day.
-     *
-     * @param person
-     * @return boolean
-     * @throws ParseException
+     * Checks for birthdays in the {@code days} days starting from {@code from}.
      */
+    public CheckBirthdays(LocalDate from, int days) {
+        requireNonNull(from);
+        this.from = from;
+        this.days = days;
+        this.monthDays = BirthdayIndex.getMonthDaysWithin(from, days);
+    }
 
-    public boolean showBirthdays(ReadOnlyPerson person) throws ParseException {
-        String birthday = person.getBirthday().toString();
-        Date date = new SimpleDateFormat("dd/MM/yyyy").parse(birthday);
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        return (((calendar.get(Calendar.MONTH)) == Calendar.getInstance().get(Calendar.MONTH))
-                && ((calendar.get(Calendar.DAY_OF_MONTH) == Calendar.getInstance().get(Calendar.DAY_OF_MONTH))));
+    /**
+     * Returns a predicate equivalent to this one that looks the matching persons up in {@code index} once.
+     * Persons added to the index after this call are tested against this predicate directly.
+     */
+    public Predicate<ReadOnlyPerson> using(BirthdayIndex index) {
+        final Set<ReadOnlyPerson> matches = index.getPersonsBornOn(monthDays);
+        final int modificationCountAtLookup = index.getModificationCount();
+        return person -> matches.contains(person)
+                || (index.getModificationCount() != modificationCountAtLookup && test(person));
     }
 
+    //@@author hymss
     @Override
     public boolean test(ReadOnlyPerson person) {
-        boolean index = false;
-        try {
-            index = showBirthdays(person);
-        } catch (ParseException e) {
-            e.printStackTrace();
-        }
-        return index;
+        return person.getBirthday().getMonthDay().map(monthDays::contains).orElse(false);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof CheckBirthdays); // instanceof handles nulls
+                || (other instanceof CheckBirthdays // instanceof handles nulls
+                && this.from.equals(((CheckBirthdays) other).from)
+                && this.days == ((CheckBirthdays) other).days);
     }
 }
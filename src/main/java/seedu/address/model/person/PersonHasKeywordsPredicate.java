@@ -60,6 +60,22 @@ public class PersonHasKeywordsPredicate implements Predicate<ReadOnlyPerson> {
                 .toString().startsWith(keyword.toLowerCase())) && (!isFindPinned || person.isPinned());
     }
 
+    /**
+     * Returns a predicate equivalent to this one that looks the matching persons up in {@code index}
+     * once, instead of examining the details of every person it is tested against.
+     * Persons added to the index after this call are tested against this predicate directly.
+     */
+    public Predicate<ReadOnlyPerson> using(PersonSearchIndex index) {
+        final Set<ReadOnlyPerson> matches = index.find(keywords);
+        final int modificationCountAtLookup = index.getModificationCount();
+        return person -> {
+            if (matches.contains(person)) {
+                return !person.isPrivate() && (!isFindPinned || person.isPinned());
+            }
+            return index.getModificationCount() != modificationCountAtLookup && test(person);
+        };
+    }
+
     private ArrayList<String> getTags(ReadOnlyPerson person) {
         Set<Tag> tagList = person.getTags();
         ArrayList<String> tagParts = new ArrayList<>();
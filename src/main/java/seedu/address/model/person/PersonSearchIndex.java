@@ -0,0 +1,176 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index over the searchable fields of the persons in a {@code UniquePersonList}.
+ * <p>
+ * Name parts, tags, emails and phones are kept in a sorted token map, so that all persons having a token
+ * that starts with a keyword are found with a single range lookup. Addresses are indexed by their
+ * {@value #NGRAM_LENGTH}-grams, which narrows substring searches down to a few candidates.
+ * <p>
+ * Persons are indexed by identity, so the index must be told about every person that enters or leaves the list.
+ *
+ * @see PersonHasKeywordsPredicate
+ */
+public class PersonSearchIndex {
+
+    private static final int NGRAM_LENGTH = 3;
+
+    private final NavigableMap<String, Set<ReadOnlyPerson>> tokenIndex = new TreeMap<>();
+    private final Map<String, Set<ReadOnlyPerson>> addressNgramIndex = new HashMap<>();
+    private final Set<ReadOnlyPerson> indexedPersons = newIdentitySet();
+    private int modificationCount = 0;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String token : getTokens(person)) {
+            tokenIndex.computeIfAbsent(token, unused -> newIdentitySet()).add(person);
+        }
+        for (String ngram : getAddressNgrams(person)) {
+            addressNgramIndex.computeIfAbsent(ngram, unused -> newIdentitySet()).add(person);
+        }
+        indexedPersons.add(person);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String token : getTokens(person)) {
+            removeFromPostings(tokenIndex, token, person);
+        }
+        for (String ngram : getAddressNgrams(person)) {
+            removeFromPostings(addressNgramIndex, ngram, person);
+        }
+        indexedPersons.remove(person);
+        modificationCount++;
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        tokenIndex.clear();
+        addressNgramIndex.clear();
+        indexedPersons.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a number that changes whenever a person is added to or removed from the index.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the indexed persons whose details match any of {@code keywords}, as defined by
+     * {@link PersonHasKeywordsPredicate}. Whether the persons are hidden or pinned is not considered.
+     * The returned set compares persons by identity.
+     */
+    public Set<ReadOnlyPerson> find(List<String> keywords) {
+        requireNonNull(keywords);
+        final Set<ReadOnlyPerson> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String prefix = keyword.toLowerCase();
+            tokenIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()
+                    .forEach(matches::addAll);
+        }
+
+        if (!keywords.isEmpty()) {
+            String fullWord = String.join(" ", keywords).toLowerCase();
+            for (ReadOnlyPerson candidate : getAddressCandidates(fullWord)) {
+                if (candidate.getAddress().toString().toLowerCase().contains(fullWord)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose address may contain {@code fullWord}.
+     */
+    private Set<ReadOnlyPerson> getAddressCandidates(String fullWord) {
+        if (fullWord.length() < NGRAM_LENGTH) {
+            return indexedPersons;
+        }
+
+        Set<ReadOnlyPerson> smallestPostings = null;
+        for (int i = 0; i + NGRAM_LENGTH <= fullWord.length(); i++) {
+            Set<ReadOnlyPerson> postings = addressNgramIndex.get(fullWord.substring(i, i + NGRAM_LENGTH));
+            if (postings == null) {
+                return Collections.emptySet();
+            }
+            if (smallestPostings == null || postings.size() < smallestPostings.size()) {
+                smallestPostings = postings;
+            }
+        }
+        return smallestPostings;
+    }
+
+    /**
+     * Returns the lower-cased name parts, tags and email, and the phone of {@code person}.
+     */
+    private static Set<String> getTokens(ReadOnlyPerson person) {
+        final Set<String> tokens = new HashSet<>();
+        for (String namePart : person.getName().fullName.split(" ")) {
+            tokens.add(namePart.toLowerCase());
+        }
+        for (Tag tag : person.getTags()) {
+            tokens.add(tag.toTextString().toLowerCase());
+        }
+        tokens.add(person.getEmail().toString().toLowerCase());
+        tokens.add(person.getPhone().toString());
+        return tokens;
+    }
+
+    /**
+     * Returns the distinct {@value #NGRAM_LENGTH}-grams of the lower-cased address of {@code person}.
+     */
+    private static Set<String> getAddressNgrams(ReadOnlyPerson person) {
+        final String address = person.getAddress().toString().toLowerCase();
+        final Set<String> ngrams = new HashSet<>();
+        for (int i = 0; i + NGRAM_LENGTH <= address.length(); i++) {
+            ngrams.add(address.substring(i, i + NGRAM_LENGTH));
+        }
+        return ngrams;
+    }
+
+    /**
+     * Removes {@code person} from the postings of {@code key}, dropping the key once no person is left.
+     */
+    private static void removeFromPostings(Map<String, Set<ReadOnlyPerson>> index, String key,
+                                           ReadOnlyPerson person) {
+        Set<ReadOnlyPerson> postings = index.get(key);
+        if (postings == null) {
+            return;
+        }
+        postings.remove(person);
+        if (postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<ReadOnlyPerson> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -2,8 +2,14 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.fxmisc.easybind.EasyBind;
 
@@ -12,6 +18,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -26,13 +33,50 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // position of each person in internalList, keyed by the person's identity fields
+    private final Map<PersonKey, Integer> positions = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final BirthdayIndex birthdayIndex = new BirthdayIndex();
+    // copies of the persons in internalList that are never mutated, so that snapshots can share them
+    private PersistentVector<Person> frozenPersons = PersistentVector.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(new PersonKey(toCheck));
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is no such person.
+     */
+    public int indexOf(ReadOnlyPerson toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(new PersonKey(toFind));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the person in the list that is equivalent to {@code toFind}.
+     *
+     * @throws PersonNotFoundException if no such person could be found in the list.
+     */
+    private Person getEquivalentPerson(ReadOnlyPerson toFind) throws PersonNotFoundException {
+        int index = indexOf(toFind);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Refreshes the stored positions of every person from {@code fromIndex} to the end of the list.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(new PersonKey(internalList.get(i)), i);
+        }
     }
 
     /**
@@ -45,7 +89,30 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        final Person person = new Person(toAdd);
+        positions.put(new PersonKey(toAdd), internalList.size());
+        searchIndex.add(person);
+        birthdayIndex.add(person);
+        frozenPersons = frozenPersons.add(new Person(person));
+        internalList.add(person);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, which must be in [0, size], shifting later persons back.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     */
+    public void add(int index, ReadOnlyPerson toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        final Person person = new Person(toAdd);
+        frozenPersons = frozenPersons.add(index, new Person(person));
+        searchIndex.add(person);
+        birthdayIndex.add(person);
+        internalList.add(index, person);
+        reindexFrom(index);
     }
 
     //@@author Alim95
@@ -54,26 +121,30 @@ public class UniquePersonList implements Iterable<Person> {
      * Sorts the list in order.
      */
     public void sort(String toSort) {
+        final Comparator<Person> comparator;
         switch (toSort) {
         case "name":
-            internalList.sort((p1, p2) -> p1.getName().toString()
-                    .compareToIgnoreCase(p2.getName().toString()));
+            comparator = (p1, p2) -> p1.getName().toString()
+                    .compareToIgnoreCase(p2.getName().toString());
             break;
         case "phone":
-            internalList.sort((p1, p2) -> p1.getPhone().toString()
-                    .compareToIgnoreCase(p2.getPhone().toString()));
+            comparator = (p1, p2) -> p1.getPhone().toString()
+                    .compareToIgnoreCase(p2.getPhone().toString());
             break;
         case "email":
-            internalList.sort((p1, p2) -> p1.getEmail().toString()
-                    .compareToIgnoreCase(p2.getEmail().toString()));
+            comparator = (p1, p2) -> p1.getEmail().toString()
+                    .compareToIgnoreCase(p2.getEmail().toString());
             break;
         case "address":
-            internalList.sort((p1, p2) -> p1.getAddress().toString()
-                    .compareToIgnoreCase(p2.getAddress().toString()));
+            comparator = (p1, p2) -> p1.getAddress().toString()
+                    .compareToIgnoreCase(p2.getAddress().toString());
             break;
         default:
-            break;
+            return;
         }
+        internalList.sort(comparator);
+        reindexFrom(0);
+        frozenPersons = freeze(internalList);
     }
 
     //@@author
@@ -88,16 +159,24 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        final Person person = new Person(editedPerson);
+        positions.remove(new PersonKey(target));
+        positions.put(new PersonKey(editedPerson), index);
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(person);
+        birthdayIndex.remove(internalList.get(index));
+        birthdayIndex.add(person);
+        frozenPersons = frozenPersons.set(index, new Person(person));
+        internalList.set(index, person);
     }
 
     /**
@@ -107,11 +186,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final Integer index = positions.remove(new PersonKey(toRemove));
+        if (index == null) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        final Person removed = internalList.remove((int) index);
+        searchIndex.remove(removed);
+        birthdayIndex.remove(removed);
+        frozenPersons = frozenPersons.remove(index);
+        reindexFrom(index);
+        return true;
     }
 
     /**
@@ -121,11 +205,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hide(ReadOnlyPerson toHide) throws PersonNotFoundException {
         requireNonNull(toHide);
-        final int indexToHide = internalList.indexOf(toHide);
-        final boolean personFoundAndHidden = internalList.get(indexToHide).setPrivate(true);
+        final boolean personFoundAndHidden = getEquivalentPerson(toHide).setPrivate(true);
         if (!personFoundAndHidden) {
             throw new PersonNotFoundException();
         }
+        refreeze(toHide);
         return personFoundAndHidden;
     }
 
@@ -136,11 +220,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean unhide(ReadOnlyPerson toUnhide) throws PersonNotFoundException {
         requireNonNull(toUnhide);
-        final int indexToUnhide = internalList.indexOf(toUnhide);
-        final boolean personFoundAndUnhidden = internalList.get(indexToUnhide).setPrivate(false);
+        final boolean personFoundAndUnhidden = getEquivalentPerson(toUnhide).setPrivate(false);
         if (!personFoundAndUnhidden) {
             throw new PersonNotFoundException();
         }
+        refreeze(toUnhide);
         return personFoundAndUnhidden;
     }
 
@@ -153,11 +237,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean pin(ReadOnlyPerson toPin) throws PersonNotFoundException {
         requireNonNull(toPin);
-        final int indexToPin = internalList.indexOf(toPin);
-        final boolean personFoundAndPinned = internalList.get(indexToPin).setPinned(true);
+        final boolean personFoundAndPinned = getEquivalentPerson(toPin).setPinned(true);
         if (!personFoundAndPinned) {
             throw new PersonNotFoundException();
         }
+        refreeze(toPin);
         return personFoundAndPinned;
     }
 
@@ -168,11 +252,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean unpin(ReadOnlyPerson toUnpin) throws PersonNotFoundException {
         requireNonNull(toUnpin);
-        final int indexToPin = internalList.indexOf(toUnpin);
-        final boolean personFoundAndUnpinned = internalList.get(indexToPin).setPinned(false);
+        final boolean personFoundAndUnpinned = getEquivalentPerson(toUnpin).setPinned(false);
         if (!personFoundAndUnpinned) {
             throw new PersonNotFoundException();
         }
+        refreeze(toUnpin);
         return personFoundAndUnpinned;
     }
 
@@ -184,11 +268,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean select(ReadOnlyPerson toSelect) throws PersonNotFoundException {
         requireNonNull(toSelect);
-        final int indexToSelect = internalList.indexOf(toSelect);
-        final boolean personFoundAndPinned = internalList.get(indexToSelect).setSelected(true);
+        final boolean personFoundAndPinned = getEquivalentPerson(toSelect).setSelected(true);
         if (!personFoundAndPinned) {
             throw new PersonNotFoundException();
         }
+        refreeze(toSelect);
         return personFoundAndPinned;
     }
 
@@ -199,26 +283,94 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean deselect(ReadOnlyPerson toDeselect) throws PersonNotFoundException {
         requireNonNull(toDeselect);
-        final int indexToSelect = internalList.indexOf(toDeselect);
-        final boolean personFoundAndUnpinned = internalList.get(indexToSelect).setSelected(false);
+        final boolean personFoundAndUnpinned = getEquivalentPerson(toDeselect).setSelected(false);
         if (!personFoundAndUnpinned) {
             throw new PersonNotFoundException();
         }
+        refreeze(toDeselect);
         return personFoundAndUnpinned;
     }
 
 
     //@@author
+    /**
+     * Replaces the frozen copy of the equivalent person with a copy of its current state.
+     * Called after the person is mutated in place.
+     */
+    private void refreeze(ReadOnlyPerson toRefreeze) {
+        int index = indexOf(toRefreeze);
+        frozenPersons = frozenPersons.set(index, new Person(internalList.get(index)));
+    }
+
+    private static PersistentVector<Person> freeze(List<Person> persons) {
+        final List<Person> copies = new ArrayList<>(persons.size());
+        persons.forEach(person -> copies.add(new Person(person)));
+        return PersistentVector.of(copies);
+    }
+
     public void setPersons(UniquePersonList replacement) {
+        rebuildIndexes(replacement.internalList);
+        this.frozenPersons = replacement.frozenPersons;
         this.internalList.setAll(replacement.internalList);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
     }
 
+    /**
+     * Replaces the contents of this list with copies of {@code persons}.
+     * The list and its index are built in a single pass and the observable list is updated once.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains equivalent persons.
+     */
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
-        final UniquePersonList replacement = new UniquePersonList();
+        final List<Person> replacementList = new ArrayList<>(persons.size());
+        final Map<PersonKey, Integer> replacementPositions = new HashMap<>();
         for (final ReadOnlyPerson person : persons) {
-            replacement.add(new Person(person));
+            if (replacementPositions.putIfAbsent(new PersonKey(person), replacementList.size()) != null) {
+                throw new DuplicatePersonException();
+            }
+            replacementList.add(new Person(person));
         }
-        setPersons(replacement);
+        rebuildIndexes(replacementList);
+        frozenPersons = freeze(replacementList);
+        internalList.setAll(replacementList);
+        positions.clear();
+        positions.putAll(replacementPositions);
+    }
+
+    /**
+     * Rebuilds the indexes over {@code persons}. Called before the persons are put in the list,
+     * so that listeners of the list see up-to-date indexes.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        searchIndex.clear();
+        birthdayIndex.clear();
+        for (Person person : persons) {
+            searchIndex.add(person);
+            birthdayIndex.add(person);
+        }
+    }
+
+    /**
+     * Returns the search index over the persons in this list. The index is kept up to date as the list changes.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the birthday index over the persons in this list. The index is kept up to date as the list changes.
+     */
+    public BirthdayIndex getBirthdayIndex() {
+        return birthdayIndex;
+    }
+
+    /**
+     * Returns an immutable copy of the persons in this list, in order. Takes O(1) time, as the copy shares
+     * its structure with this list; later changes to this list or its persons are not reflected in it.
+     */
+    public List<ReadOnlyPerson> getSnapshot() {
+        return Collections.unmodifiableList(frozenPersons.asList());
     }
 
     /**
@@ -244,4 +396,46 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * Snapshot of the fields that define person equality, used as the key of the position index.
+     *
+     * @see ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)
+     */
+    private static class PersonKey {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final Birthday birthday;
+
+        PersonKey(ReadOnlyPerson person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+            this.email = person.getEmail();
+            this.address = person.getAddress();
+            this.birthday = person.getBirthday();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PersonKey)) {
+                return false;
+            }
+            PersonKey otherKey = (PersonKey) other;
+            return name.equals(otherKey.name)
+                    && phone.equals(otherKey.phone)
+                    && email.equals(otherKey.email)
+                    && address.equals(otherKey.address)
+                    && birthday.equals(otherKey.birthday);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, email, address, birthday);
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.UniqueTagList.DuplicateTagException;
+import seedu.address.model.util.PersistentVector;
+
+/**
+ * The master list of tags of an address book.
+ * Interns every tag so that equal tags held by different persons share one {@code Tag} object, and counts
+ * how many persons refer to each tag. A tag is dropped once the last person referring to it releases it.
+ * <p>
+ * Tags can also be declared without any referring person (see {@link #add(Tag)}); these stay in the list
+ * until they are referred to and then released again.
+ *
+ * @see Tag#equals(Object)
+ */
+public class TagDictionary implements Iterable<Tag> {
+
+    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final Map<Tag, Entry> entries = new HashMap<>();
+    // the tags of internalList, shared with snapshots
+    private PersistentVector<Tag> tagVector = PersistentVector.empty();
+
+    /**
+     * Returns true if the dictionary contains an equivalent Tag as the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        requireNonNull(toCheck);
+        return entries.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the number of persons currently referring to {@code tag}, or 0 if it is not in the dictionary.
+     */
+    public int getReferenceCount(Tag tag) {
+        requireNonNull(tag);
+        Entry entry = entries.get(tag);
+        return entry == null ? 0 : entry.referenceCount;
+    }
+
+    /**
+     * Declares a Tag that is not referred to by any person yet.
+     *
+     * @throws DuplicateTagException if an equivalent Tag is already in the dictionary.
+     */
+    public void add(Tag toAdd) throws DuplicateTagException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateTagException();
+        }
+        intern(toAdd);
+    }
+
+    /**
+     * Removes a Tag that was declared with {@link #add(Tag)} and is not referred to by any person.
+     * Returns false if there is no equivalent Tag.
+     *
+     * @throws IllegalStateException if a person still refers to an equivalent Tag.
+     */
+    public boolean remove(Tag toRemove) {
+        requireNonNull(toRemove);
+        Entry entry = entries.get(toRemove);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.referenceCount > 0) {
+            throw new IllegalStateException("Tag " + toRemove + " is still referred to by a person");
+        }
+        entries.remove(toRemove);
+        int index = internalList.indexOf(entry.tag);
+        tagVector = tagVector.remove(index);
+        internalList.remove(index);
+        return true;
+    }
+
+    /**
+     * Records one more reference to each of {@code tags}, adding tags that are not in the dictionary yet.
+     *
+     * @return the canonical Tag objects equivalent to {@code tags}, to be held by the referring person.
+     */
+    public Set<Tag> acquire(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        final Set<Tag> canonicalTags = new HashSet<>();
+        for (Tag tag : tags) {
+            Entry entry = intern(tag);
+            entry.referenceCount++;
+            canonicalTags.add(entry.tag);
+        }
+        return canonicalTags;
+    }
+
+    /**
+     * Drops one reference to each of {@code tags}, removing the tags that are no longer referred to.
+     */
+    public void release(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        for (Tag tag : tags) {
+            Entry entry = entries.get(tag);
+            assert entry != null && entry.referenceCount > 0 : "Released a tag that was never acquired";
+            if (entry == null) {
+                continue;
+            }
+            entry.referenceCount--;
+            if (entry.referenceCount == 0) {
+                entries.remove(tag);
+                int index = internalList.indexOf(entry.tag);
+                tagVector = tagVector.remove(index);
+                internalList.remove(index);
+            }
+        }
+    }
+
+    /**
+     * Removes all tags and references from the dictionary.
+     */
+    public void clear() {
+        entries.clear();
+        tagVector = PersistentVector.empty();
+        internalList.clear();
+    }
+
+    /**
+     * Returns the entry of the canonical Tag equivalent to {@code tag}, creating it if necessary.
+     */
+    private Entry intern(Tag tag) {
+        Entry entry = entries.get(tag);
+        if (entry == null) {
+            entry = new Entry(tag);
+            entries.put(tag, entry);
+            tagVector = tagVector.add(tag);
+            internalList.add(tag);
+        }
+        return entry;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return internalList.iterator();
+    }
+
+    /**
+     * Returns an immutable copy of the tags, in the order they were first added. Takes O(1) time, as the copy
+     * shares its structure with this dictionary.
+     */
+    public List<Tag> getSnapshot() {
+        return Collections.unmodifiableList(tagVector.asList());
+    }
+
+    /**
+     * Returns the tags as an unmodifiable {@code ObservableList}, in the order they were first added.
+     */
+    public ObservableList<Tag> asObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns true if both dictionaries contain the same tags, regardless of order and reference counts.
+     */
+    public boolean equalsOrderInsensitive(TagDictionary other) {
+        return this == other || this.entries.keySet().equals(other.entries.keySet());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagDictionary // instanceof handles nulls
+                && this.internalList.equals(((TagDictionary) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    /**
+     * A canonical Tag and the number of persons referring to it.
+     */
+    private static class Entry {
+        private final Tag tag;
+        private int referenceCount;
+
+        Entry(Tag tag) {
+            this.tag = tag;
+        }
+    }
+}
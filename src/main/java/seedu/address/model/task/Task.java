@@ -15,7 +15,7 @@ import javafx.beans.property.SimpleObjectProperty;
  */
 public class Task implements ReadOnlyTask, Comparable<Task> {
 
-    private static final int UPCOMING_DAYS_THRESHOLD = 7;
+    static final int UPCOMING_DAYS_THRESHOLD = 7;
 
     private ObjectProperty<Header> header;
     private boolean isCompleted;
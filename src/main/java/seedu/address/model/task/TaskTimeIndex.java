@@ -0,0 +1,390 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A time-ordered index over the incomplete tasks of a {@code UniqueTaskList} that have a start or end time.
+ * <p>
+ * Each task covers the interval from its start time to its end time; a task with only a deadline covers
+ * the single instant of its deadline. The tasks are kept in an interval tree: a balanced binary search tree
+ * ordered by the start of their interval, where each node also holds the latest end in its subtree. Range and
+ * "next" queries only visit the tasks they return and the O(log n) nodes on the way to them, and overlap
+ * queries also skip every subtree that ends before the queried range, so all queries take O(log n + k) time
+ * for k returned tasks.
+ * <p>
+ * Completed tasks and tasks without time are never due, and are left out of the index.
+ * Tasks are indexed by identity, so the index must be told about every task that enters or leaves the list.
+ *
+ * @see ReadOnlyTask#isOverdue()
+ * @see ReadOnlyTask#isUpcoming()
+ */
+public class TaskTimeIndex {
+
+    private Node root;
+
+    /**
+     * Adds {@code task} to the index if it is incomplete and has a start or end time.
+     */
+    void add(ReadOnlyTask task) {
+        requireNonNull(task);
+        if (!isIndexed(task)) {
+            return;
+        }
+        root = insert(root, getStart(task), task);
+    }
+
+    /**
+     * Removes {@code task} from the index.
+     */
+    void remove(ReadOnlyTask task) {
+        requireNonNull(task);
+        if (!isIndexed(task)) {
+            return;
+        }
+        root = delete(root, getStart(task), task);
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the indexed tasks that start, or are due, from {@code from} to {@code to} inclusive,
+     * in time order.
+     */
+    public List<ReadOnlyTask> getTasksBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        final List<ReadOnlyTask> tasks = new ArrayList<>();
+        if (!from.isAfter(to)) {
+            collectStartingBetween(root, from, true, to, true, tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the indexed tasks whose interval shares at least one instant with {@code from} to {@code to},
+     * in order of their start.
+     */
+    public List<ReadOnlyTask> getTasksOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        final List<ReadOnlyTask> overlapping = new ArrayList<>();
+        if (!from.isAfter(to)) {
+            collectOverlapping(root, from, to, overlapping);
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns at most {@code count} indexed tasks that start, or are due, strictly after {@code time},
+     * earliest first.
+     */
+    public List<ReadOnlyTask> getNextTasks(LocalDateTime time, int count) {
+        requireNonNull(time);
+        final List<ReadOnlyTask> next = new ArrayList<>();
+        collectNext(root, time, count, next);
+        return next;
+    }
+
+    /**
+     * Returns the tasks that are overdue at {@code now}.
+     *
+     * @see ReadOnlyTask#isOverdue()
+     */
+    public List<ReadOnlyTask> getOverdueTasks(LocalDateTime now) {
+        requireNonNull(now);
+        final List<ReadOnlyTask> overdue = new ArrayList<>();
+        collectStartingBetween(root, LocalDateTime.MIN, true, now, false, overdue);
+        return overdue;
+    }
+
+    /**
+     * Returns the tasks that are upcoming at {@code now}.
+     *
+     * @see ReadOnlyTask#isUpcoming()
+     */
+    public List<ReadOnlyTask> getUpcomingTasks(LocalDateTime now) {
+        requireNonNull(now);
+        LocalDateTime threshold = now.plusDays(Task.UPCOMING_DAYS_THRESHOLD);
+        final List<ReadOnlyTask> upcoming = new ArrayList<>();
+        collectStartingBetween(root, now, false, threshold, false, upcoming);
+        return upcoming;
+    }
+
+    // ================ Interval tree operations ==============================
+
+    /**
+     * Adds {@code task}, which starts at {@code start}, to the subtree at {@code node}
+     * and returns the balanced subtree.
+     */
+    private static Node insert(Node node, LocalDateTime start, ReadOnlyTask task) {
+        if (node == null) {
+            Node added = new Node(start);
+            added.addTask(task);
+            added.update();
+            return added;
+        }
+        int comparison = start.compareTo(node.start);
+        if (comparison < 0) {
+            node.left = insert(node.left, start, task);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, start, task);
+        } else {
+            node.addTask(task);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Removes {@code task}, which starts at {@code start}, from the subtree at {@code node}
+     * and returns the balanced subtree. A node is removed with its last task.
+     */
+    private static Node delete(Node node, LocalDateTime start, ReadOnlyTask task) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = start.compareTo(node.start);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, task);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, task);
+        } else {
+            node.removeTask(task);
+            if (node.tasks.isEmpty()) {
+                return unlink(node);
+            }
+        }
+        return balance(node);
+    }
+
+    /**
+     * Returns the balanced subtree of the children of {@code node}, without {@code node}.
+     */
+    private static Node unlink(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = deleteFirst(node.right);
+        successor.left = node.left;
+        return balance(successor);
+    }
+
+    /**
+     * Removes the first node of the subtree at {@code node} and returns the balanced subtree.
+     */
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    /**
+     * Restores the height balance of the subtree at {@code node}, whose children are balanced and differ in
+     * height by at most two, and updates the height and latest end of the nodes that changed.
+     */
+    private static Node balance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Makes the right child of {@code node} the root of its subtree, and returns the new root.
+     */
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    /**
+     * Makes the left child of {@code node} the root of its subtree, and returns the new root.
+     */
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Adds the tasks in the subtree at {@code node} that start between {@code from} and {@code to} to
+     * {@code tasks}, in time order. Only the subtrees that can hold such tasks are visited.
+     */
+    private static void collectStartingBetween(Node node, LocalDateTime from, boolean isFromInclusive,
+                                               LocalDateTime to, boolean isToInclusive, List<ReadOnlyTask> tasks) {
+        if (node == null) {
+            return;
+        }
+        boolean isAfterFrom = isFromInclusive ? !node.start.isBefore(from) : node.start.isAfter(from);
+        boolean isBeforeTo = isToInclusive ? !node.start.isAfter(to) : node.start.isBefore(to);
+        if (isAfterFrom) {
+            collectStartingBetween(node.left, from, isFromInclusive, to, isToInclusive, tasks);
+        }
+        if (isAfterFrom && isBeforeTo) {
+            tasks.addAll(node.tasks);
+        }
+        if (isBeforeTo) {
+            collectStartingBetween(node.right, from, isFromInclusive, to, isToInclusive, tasks);
+        }
+    }
+
+    /**
+     * Adds the tasks in the subtree at {@code node} whose interval shares at least one instant with {@code from}
+     * to {@code to} to {@code tasks}, in order of their start. The subtrees that end before {@code from}, and
+     * those that start after {@code to}, are skipped.
+     */
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to,
+                                           List<ReadOnlyTask> tasks) {
+        if (node == null || node.latestEndInSubtree.isBefore(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, tasks);
+        if (node.start.isAfter(to)) {
+            return;
+        }
+        if (!node.latestEnd.isBefore(from)) {
+            for (ReadOnlyTask task : node.tasks) {
+                if (!getEnd(task).isBefore(from)) {
+                    tasks.add(task);
+                }
+            }
+        }
+        collectOverlapping(node.right, from, to, tasks);
+    }
+
+    /**
+     * Adds the tasks in the subtree at {@code node} that start strictly after {@code time} to {@code tasks},
+     * earliest first, until {@code tasks} holds {@code count} tasks.
+     */
+    private static void collectNext(Node node, LocalDateTime time, int count, List<ReadOnlyTask> tasks) {
+        if (node == null || tasks.size() >= count) {
+            return;
+        }
+        if (node.start.isAfter(time)) {
+            collectNext(node.left, time, count, tasks);
+            for (ReadOnlyTask task : node.tasks) {
+                if (tasks.size() == count) {
+                    return;
+                }
+                tasks.add(task);
+            }
+        }
+        collectNext(node.right, time, count, tasks);
+    }
+
+    // ================ Task intervals ==============================
+
+    private static boolean isIndexed(ReadOnlyTask task) {
+        return !task.isCompleted() && task.hasTime();
+    }
+
+    /**
+     * Returns the start time of {@code task}, or its deadline if it has no start time.
+     */
+    private static LocalDateTime getStart(ReadOnlyTask task) {
+        return task.getStartDateTime().orElseGet(() -> task.getEndDateTime().get());
+    }
+
+    /**
+     * Returns the end time of {@code task}, or its start time if it has no end time.
+     */
+    private static LocalDateTime getEnd(ReadOnlyTask task) {
+        return task.getEndDateTime().orElseGet(() -> task.getStartDateTime().get());
+    }
+
+    private static LocalDateTime later(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? second : first;
+    }
+
+    /**
+     * A node of the interval tree, holding the tasks that start at the same time.
+     */
+    private static class Node {
+        private final LocalDateTime start;
+        private final Set<ReadOnlyTask> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        private LocalDateTime latestEnd;
+        private LocalDateTime latestEndInSubtree;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(LocalDateTime start) {
+            this.start = start;
+            this.latestEnd = start;
+            this.latestEndInSubtree = start;
+        }
+
+        void addTask(ReadOnlyTask task) {
+            tasks.add(task);
+            latestEnd = later(latestEnd, getEnd(task));
+        }
+
+        /**
+         * Removes {@code task} and works out the latest end of the remaining tasks.
+         */
+        void removeTask(ReadOnlyTask task) {
+            if (!tasks.remove(task)) {
+                return;
+            }
+            latestEnd = start;
+            for (ReadOnlyTask remaining : tasks) {
+                latestEnd = later(latestEnd, getEnd(remaining));
+            }
+        }
+
+        /**
+         * Updates the height and the latest end in the subtree from the children.
+         */
+        void update() {
+            height = 1 + Math.max(TaskTimeIndex.height(left), TaskTimeIndex.height(right));
+            latestEndInSubtree = latestEnd;
+            if (left != null) {
+                latestEndInSubtree = later(latestEndInSubtree, left.latestEndInSubtree);
+            }
+            if (right != null) {
+                latestEndInSubtree = later(latestEndInSubtree, right.latestEndInSubtree);
+            }
+        }
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import org.fxmisc.easybind.EasyBind;
 
@@ -13,6 +20,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.model.util.PersistentVector;
 
 //@@author deep4k
 /**
@@ -28,6 +36,11 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<ReadOnlyTask> mappedList = EasyBind.map(internalList, (task)
         -> task);
+    // position of each task in internalList, keyed by the task's identity fields
+    private final Map<TaskKey, Integer> positions = new HashMap<>();
+    private final TaskTimeIndex timeIndex = new TaskTimeIndex();
+    // the tasks of internalList, shared with snapshots; stored tasks are replaced rather than mutated
+    private PersistentVector<Task> taskVector = PersistentVector.empty();
 
     /**
      * Constructs empty TaskList
@@ -40,7 +53,25 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(ReadOnlyTask toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(new TaskKey(toCheck));
+    }
+
+    /**
+     * Returns the position of the equivalent task in the list, or -1 if there is no such task.
+     */
+    public int indexOf(ReadOnlyTask toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(new TaskKey(toFind));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Refreshes the stored positions of every task from {@code fromIndex} to the end of the list.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(new TaskKey(internalList.get(i)), i);
+        }
     }
 
     /**
@@ -55,7 +86,30 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.add(new Task(toAdd));
+        final Task task = new Task(toAdd);
+        positions.put(new TaskKey(toAdd), internalList.size());
+        timeIndex.add(task);
+        taskVector = taskVector.add(task);
+        internalList.add(task);
+    }
+
+    /**
+     * Inserts a task into the list at {@code index}, which must be in [0, size], shifting later tasks back.
+     *
+     * @throws DuplicateTaskException if the task to add is a duplicate of an existing task in the list.
+     */
+    public void add(int index, ReadOnlyTask toAdd) throws DuplicateTaskException {
+        requireNonNull(toAdd);
+
+        if (contains(toAdd)) {
+            throw new DuplicateTaskException();
+        }
+
+        final Task task = new Task(toAdd);
+        taskVector = taskVector.add(index, task);
+        timeIndex.add(task);
+        internalList.add(index, task);
+        reindexFrom(index);
     }
 
     /**
@@ -65,12 +119,15 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(ReadOnlyTask toRemove) throws TaskNotFoundException {
         requireNonNull(toRemove);
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
+        final Integer index = positions.remove(new TaskKey(toRemove));
 
-        if (!taskFoundAndDeleted) {
+        if (index == null) {
             throw new TaskNotFoundException();
         }
-        return taskFoundAndDeleted;
+        timeIndex.remove(internalList.remove((int) index));
+        taskVector = taskVector.remove(index);
+        reindexFrom(index);
+        return true;
     }
 
     /**
@@ -83,7 +140,7 @@ public class UniqueTaskList implements Iterable<Task> {
             throws TaskNotFoundException, DuplicateTaskException {
         requireAllNonNull(target, updatedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
 
         if (index == -1) {
             throw new TaskNotFoundException();
@@ -93,7 +150,13 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, new Task(updatedTask));
+        final Task task = new Task(updatedTask);
+        positions.remove(new TaskKey(target));
+        positions.put(new TaskKey(updatedTask), index);
+        timeIndex.remove(internalList.get(index));
+        timeIndex.add(task);
+        taskVector = taskVector.set(index, task);
+        internalList.set(index, task);
     }
 
     /**
@@ -121,15 +184,57 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     public void setTasks(UniqueTaskList replacement) {
+        rebuildTimeIndex(replacement.internalList);
+        this.taskVector = replacement.taskVector;
         this.internalList.setAll(replacement.internalList);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
     }
 
+    /**
+     * Replaces the contents of this list with copies of {@code tasks}.
+     * The list and its index are built in a single pass and the observable list is updated once.
+     *
+     * @throws DuplicateTaskException if {@code tasks} contains equivalent tasks.
+     */
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws DuplicateTaskException {
-        final UniqueTaskList replacement = new UniqueTaskList();
+        final List<Task> replacementList = new ArrayList<>(tasks.size());
+        final Map<TaskKey, Integer> replacementPositions = new HashMap<>();
         for (final ReadOnlyTask task : tasks) {
-            replacement.add(new Task(task));
+            if (replacementPositions.putIfAbsent(new TaskKey(task), replacementList.size()) != null) {
+                throw new DuplicateTaskException();
+            }
+            replacementList.add(new Task(task));
         }
-        setTasks(replacement);
+        rebuildTimeIndex(replacementList);
+        taskVector = PersistentVector.of(replacementList);
+        internalList.setAll(replacementList);
+        positions.clear();
+        positions.putAll(replacementPositions);
+    }
+
+    /**
+     * Rebuilds the time index over {@code tasks}. Called before the tasks are put in the list,
+     * so that listeners of the list see an up-to-date index.
+     */
+    private void rebuildTimeIndex(List<Task> tasks) {
+        timeIndex.clear();
+        tasks.forEach(timeIndex::add);
+    }
+
+    /**
+     * Returns the time index over the tasks in this list. The index is kept up to date as the list changes.
+     */
+    public TaskTimeIndex getTimeIndex() {
+        return timeIndex;
+    }
+
+    /**
+     * Returns an immutable copy of the tasks in this list, in order. Takes O(1) time, as the copy shares
+     * its structure with this list.
+     */
+    public List<ReadOnlyTask> getSnapshot() {
+        return Collections.unmodifiableList(taskVector.asList());
     }
 
     public ObservableList<ReadOnlyTask> asObservableList() {
@@ -152,5 +257,44 @@ public class UniqueTaskList implements Iterable<Task> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * Snapshot of the fields that define task equality, used as the key of the position index.
+     *
+     * @see ReadOnlyTask#isSameStateAs(ReadOnlyTask)
+     */
+    private static class TaskKey {
+        private final Header header;
+        private final boolean isCompleted;
+        private final Optional<LocalDateTime> startDateTime;
+        private final Optional<LocalDateTime> endDateTime;
+
+        TaskKey(ReadOnlyTask task) {
+            this.header = task.getHeader();
+            this.isCompleted = task.isCompleted();
+            this.startDateTime = task.getStartDateTime();
+            this.endDateTime = task.getEndDateTime();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof TaskKey)) {
+                return false;
+            }
+            TaskKey otherKey = (TaskKey) other;
+            return header.equals(otherKey.header)
+                    && isCompleted == otherKey.isCompleted
+                    && startDateTime.equals(otherKey.startDateTime)
+                    && endDateTime.equals(otherKey.endDateTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(header, isCompleted, startDateTime, endDateTime);
+        }
+    }
 }
 
@@ -0,0 +1,317 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure with the versions it was derived from.
+ * <p>
+ * The elements are kept in a balanced binary tree ordered by position. An update copies only the
+ * O(log n) nodes on the path to the changed position and shares every other node with the previous version,
+ * so keeping an old version costs O(1) and every version after an update uses O(log n) more memory.
+ * <p>
+ * Does not allow nulls.
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<E> root;
+
+    private PersistentVector(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector of the elements of {@code elements}, in iteration order. Takes O(n) time.
+     */
+    public static <E> PersistentVector<E> of(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentVector<>(build(array, 0, array.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public PersistentVector<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentVector<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} appended.
+     */
+    public PersistentVector<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a vector with {@code element} inserted at {@code index}, shifting later elements back.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size].
+     */
+    public PersistentVector<E> add(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentVector<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a vector without the element at {@code index}, shifting later elements forward.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public PersistentVector<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentVector<>(delete(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this vector.
+     */
+    public List<E> asList() {
+        return new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                return PersistentVector.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentVector.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentVector.this.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersistentVector // instanceof handles nulls
+                && this.asList().equals(((PersistentVector<?>) other).asList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    // ================ Tree operations ==============================
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns a perfectly balanced tree of {@code elements[from]} to {@code elements[to - 1]}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), (E) elements[middle], build(elements, middle + 1, to));
+    }
+
+    /**
+     * Returns a copy of the tree {@code node} with the element at {@code index} replaced by {@code element}.
+     */
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    /**
+     * Returns a copy of the tree {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Returns a copy of the tree {@code node} without the element at {@code index}.
+     */
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.value, delete(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node joining {@code left}, {@code value} and {@code right}, rotating once if the heights of
+     * the two subtrees differ by two, as they can after a single insertion or deletion.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * An immutable tree node, which knows the size and height of the subtree rooted at it.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the path to the next element on a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+    }
+}
@@ -73,27 +73,27 @@ public class SampleDataUtil {
                 new Task(new Header("Pick up a new book")),
                 new Task(new Header("Learn basic Thai")),
                 new Task(new Header("Update collation of codes"),
-                        DateTimeParserUtil.nattyParseDateTime("yesterday")),
+                        DateTimeParserUtil.parseDateTime("yesterday")),
                 new Task(new Header("Go grocery shopping"),
-                        DateTimeParserUtil.nattyParseDateTime("today")),
+                        DateTimeParserUtil.parseDateTime("today")),
                 new Task(new Header("Help Jimmy with math"),
-                        DateTimeParserUtil.nattyParseDateTime("tonight")),
+                        DateTimeParserUtil.parseDateTime("tonight")),
                 new Task(new Header("Go for fishing trip"),
-                        DateTimeParserUtil.nattyParseDateTime("tmr night")),
+                        DateTimeParserUtil.parseDateTime("tmr night")),
                 new Task(new Header("Fetch Jimmy from soccer practise"),
-                        DateTimeParserUtil.nattyParseDateTime("two days later")),
+                        DateTimeParserUtil.parseDateTime("two days later")),
                 new Task(new Header("Go to the gym"),
-                        DateTimeParserUtil.nattyParseDateTime("2 days later")),
+                        DateTimeParserUtil.parseDateTime("2 days later")),
                 new Task(new Header("Clean up house with Jimmy"),
-                        DateTimeParserUtil.nattyParseDateTime("this weekend")),
+                        DateTimeParserUtil.parseDateTime("this weekend")),
                 new Task(new Header("Go for parent teacher meeting"),
-                        DateTimeParserUtil.nattyParseDateTime("next week")),
+                        DateTimeParserUtil.parseDateTime("next week")),
                 new Task(new Header("Pay off debt"),
-                        DateTimeParserUtil.nattyParseDateTime("next week")),
+                        DateTimeParserUtil.parseDateTime("next week")),
                 new Task(new Header("Look for new recipes"),
-                        DateTimeParserUtil.nattyParseDateTime("next week")),
+                        DateTimeParserUtil.parseDateTime("next week")),
                 new Task(new Header("Finish up project"),
-                        DateTimeParserUtil.nattyParseDateTime("two weeks later")),
+                        DateTimeParserUtil.parseDateTime("two weeks later")),
             };
         } catch (IllegalValueException e) {
             throw new AssertionError("sample task data cannot be invalid", e);
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts AddressBook data between storage formats.
+ */
+public class AddressBookFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Writes the address book in the xml file at {@code xmlFilePath} to a binary snapshot at
+     * {@code binaryFilePath}. Throws a {@code FileNotFoundException} if there is no xml file.
+     */
+    public static void convertXmlToBinary(String xmlFilePath, String binaryFilePath)
+            throws DataConversionException, IOException {
+        convert(new XmlAddressBookStorage(xmlFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Writes the address book in the binary snapshot at {@code binaryFilePath} to an xml file at
+     * {@code xmlFilePath}. Throws a {@code FileNotFoundException} if there is no snapshot.
+     */
+    public static void convertBinaryToXml(String binaryFilePath, String xmlFilePath)
+            throws DataConversionException, IOException {
+        convert(new BinaryAddressBookStorage(binaryFilePath), new XmlAddressBookStorage(xmlFilePath));
+    }
+
+    /**
+     * Writes the address book in the xml file at {@code xmlFilePath} to a JSON file at {@code jsonFilePath}.
+     * Throws a {@code FileNotFoundException} if there is no xml file.
+     */
+    public static void convertXmlToJson(String xmlFilePath, String jsonFilePath)
+            throws DataConversionException, IOException {
+        convert(new XmlAddressBookStorage(xmlFilePath), new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    /**
+     * Writes the address book in the JSON file at {@code jsonFilePath} to an xml file at {@code xmlFilePath}.
+     * Throws a {@code FileNotFoundException} if there is no JSON file.
+     */
+    public static void convertJsonToXml(String jsonFilePath, String xmlFilePath)
+            throws DataConversionException, IOException {
+        convert(new JsonAddressBookStorage(jsonFilePath), new XmlAddressBookStorage(xmlFilePath));
+    }
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}.
+     * Throws a {@code FileNotFoundException} if {@code source} has no address book.
+     */
+    public static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() ->
+                new FileNotFoundException("File not found : " + source.getAddressBookFilePath()));
+        target.saveAddressBook(addressBook);
+        logger.info("Converted AddressBook " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -41,4 +42,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, which is the address book last read from or saved to the storage
+     * with {@code changes} made on it. Storages that cannot save the changes alone save the whole address book.
+     * @param addressBook cannot be null.
+     * @param changes the changes since the last save, or null if they are not known.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes) throws IOException;
+
+    /**
+     * Writes out anything the storage keeps only in memory. Called once on a clean shutdown.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void close() throws IOException {
+    }
+
 }
@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a dedicated writer thread.
+ * <p>
+ * A burst of address books submitted within {@code saveDelay} of each other is saved once, as the latest
+ * address book with the changes of the whole burst. No address book waits longer than {@code maxSaveDelay}
+ * after it was submitted, however long the burst. The submitted address books must not change afterwards,
+ * as they are read on the writer thread. The writer thread runs until the saver is closed.
+ */
+class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long saveDelayNanos;
+    private final long maxSaveDelayNanos;
+    private final Consumer<Exception> failureHandler;
+    private final Thread writer;
+
+    // the latest address book waiting to be saved, and the changes since the last save or null if not known
+    private ReadOnlyAddressBook pendingAddressBook;
+    private AddressBookDelta pendingChanges;
+    private int pendingCount = 0;
+    private long firstPendingTime;
+    private long lastPendingTime;
+
+    // the number of address books submitted, saved, and to save without waiting for the burst to end
+    private long submittedCount = 0;
+    private long savedCount = 0;
+    private long flushCount = 0;
+
+    private long lastSaveLatencyNanos = 0;
+    private boolean isClosed = false;
+
+    /**
+     * @param saveDelay the time in milliseconds to wait for further address books after one is submitted.
+     * @param maxSaveDelay the longest time in milliseconds an address book waits before it is saved.
+     * @param failureHandler called on the writer thread with the exception of each save that fails.
+     */
+    AsyncAddressBookSaver(AddressBookStorage addressBookStorage, long saveDelay, long maxSaveDelay,
+                          Consumer<Exception> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.saveDelayNanos = TimeUnit.MILLISECONDS.toNanos(saveDelay);
+        this.maxSaveDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxSaveDelay);
+        this.failureHandler = failureHandler;
+        this.writer = new Thread(this::runWriter, "AddressBook writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Submits {@code addressBook}, which is the previously submitted address book with {@code changes} made on it,
+     * to be saved.
+     *
+     * @param changes the changes since the previous address book, or null if they are not known.
+     * @throws IllegalStateException if the saver is closed.
+     */
+    synchronized void submit(ReadOnlyAddressBook addressBook, AddressBookDelta changes) {
+        requireNonNull(addressBook);
+        if (isClosed) {
+            throw new IllegalStateException("AddressBook saver is closed");
+        }
+
+        long now = System.nanoTime();
+        if (pendingCount == 0) {
+            pendingChanges = new AddressBookDelta();
+            firstPendingTime = now;
+        }
+        if (changes == null) {
+            pendingChanges = null;
+        } else if (pendingChanges != null) {
+            pendingChanges.addAll(changes);
+        }
+        pendingAddressBook = addressBook;
+        pendingCount++;
+        lastPendingTime = now;
+        submittedCount++;
+        notifyAll();
+    }
+
+    /**
+     * Blocks until every address book submitted so far is saved, saving the waiting ones right away.
+     */
+    synchronized void flush() {
+        long target = submittedCount;
+        flushCount = Math.max(flushCount, target);
+        notifyAll();
+        try {
+            while (savedCount < target) {
+                wait();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Saves every address book submitted so far right away, then stops the writer thread.
+     * Does nothing if the saver is already closed.
+     */
+    void close() {
+        synchronized (this) {
+            isClosed = true;
+            flushCount = submittedCount;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of submitted address books that are not saved yet, counting the one being saved.
+     */
+    synchronized long getQueueDepth() {
+        return submittedCount - savedCount;
+    }
+
+    /**
+     * Returns the time the last save took, in milliseconds.
+     */
+    synchronized long getLastSaveLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(lastSaveLatencyNanos);
+    }
+
+    /**
+     * Saves the submitted address books until the saver is closed and they are all saved.
+     */
+    private void runWriter() {
+        try {
+            while (true) {
+                ReadOnlyAddressBook addressBook;
+                AddressBookDelta changes;
+                long batchEnd;
+                int batchSize;
+                synchronized (this) {
+                    if (!awaitBatch()) {
+                        return;
+                    }
+                    addressBook = pendingAddressBook;
+                    changes = pendingChanges;
+                    batchEnd = submittedCount;
+                    batchSize = pendingCount;
+                    pendingAddressBook = null;
+                    pendingChanges = null;
+                    pendingCount = 0;
+                }
+                save(addressBook, changes, batchEnd, batchSize);
+            }
+        } catch (InterruptedException ie) {
+            logger.warning("AddressBook writer interrupted");
+        }
+    }
+
+    /**
+     * Waits until there is a burst of address books to save and it has ended, has waited for
+     * {@code maxSaveDelay}, or is flushed. Returns false instead if the saver is closed with nothing left to save.
+     */
+    private boolean awaitBatch() throws InterruptedException {
+        while (pendingCount == 0) {
+            if (isClosed) {
+                return false;
+            }
+            wait();
+        }
+        while (flushCount < submittedCount) {
+            long deadline = Math.min(lastPendingTime + saveDelayNanos, firstPendingTime + maxSaveDelayNanos);
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code addressBook}, which is the last of {@code batchSize} address books up to the
+     * {@code batchEnd}th one submitted.
+     */
+    private void save(ReadOnlyAddressBook addressBook, AddressBookDelta changes, long batchEnd, int batchSize) {
+        long start = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBookChanges(addressBook, changes);
+        } catch (IOException | RuntimeException e) {
+            // the writer thread keeps running, so that the later saves and flushes do not wait forever
+            failureHandler.accept(e);
+        }
+        long latency = System.nanoTime() - start;
+
+        long queueDepth;
+        synchronized (this) {
+            savedCount = batchEnd;
+            lastSaveLatencyNanos = latency;
+            queueDepth = submittedCount - savedCount;
+            notifyAll();
+        }
+        logger.info("Saved " + batchSize + " AddressBook change(s) in " + TimeUnit.NANOSECONDS.toMillis(latency)
+                + " ms, " + queueDepth + " waiting");
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Reads an address book from a binary snapshot written by {@link BinaryAddressBookWriter}.
+ * The file is memory-mapped and each entry is converted into a model object as it is read.
+ */
+class BinaryAddressBookReader {
+
+    private final ByteBuffer buffer;
+    private String[] strings;
+    private byte[] stringBytes = new byte[64];
+
+    private BinaryAddressBookReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the address book in the snapshot file at {@code path}.
+     *
+     * @throws DataConversionException if the file is not a binary snapshot of a supported version.
+     */
+    static ReadOnlyAddressBook read(Path path) throws DataConversionException, IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the address book in the snapshot starting at the position of {@code buffer}.
+     *
+     * @throws DataConversionException if the snapshot is not a binary snapshot of a supported version.
+     */
+    static ReadOnlyAddressBook read(ByteBuffer buffer) throws DataConversionException {
+        try {
+            return new BinaryAddressBookReader(buffer).readAddressBook();
+        } catch (IllegalValueException | DateTimeParseException | BufferUnderflowException
+                | IndexOutOfBoundsException e) {
+            // a truncated or corrupted snapshot runs past the end of the file or the string table
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the header, the string table and the sections of the snapshot.
+     */
+    private ReadOnlyAddressBook readAddressBook() throws IllegalValueException {
+        if (buffer.getInt() != BinaryAddressBookWriter.MAGIC) {
+            throw new IllegalValueException("Not an AddressBook snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != BinaryAddressBookWriter.VERSION) {
+            throw new IllegalValueException("Unsupported AddressBook snapshot version " + version);
+        }
+        readStringTable();
+
+        ObservableList<Tag> tags = FXCollections.observableArrayList();
+        for (int count = buffer.getInt(); count > 0; count--) {
+            tags.add(new XmlAdaptedTag(readRequiredString()).toModelType());
+        }
+
+        ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList();
+        for (int count = buffer.getInt(); count > 0; count--) {
+            persons.add(readPerson().toModelType());
+        }
+
+        ObservableList<ReadOnlyAliasToken> aliasTokens = FXCollections.observableArrayList();
+        for (int count = buffer.getInt(); count > 0; count--) {
+            aliasTokens.add(new XmlAdaptedAliasToken(readRequiredString(), readRequiredString()).toModelType());
+        }
+
+        ObservableList<ReadOnlyTask> tasks = FXCollections.observableArrayList();
+        for (int count = buffer.getInt(); count > 0; count--) {
+            tasks.add(new XmlAdaptedTask(readRequiredString(), readString(), readString(), readString(),
+                    readString()).toModelType());
+        }
+        return new LoadedAddressBook(persons, tags, aliasTokens, tasks);
+    }
+
+    /**
+     * Decodes the string table, copying each string's bytes out of the mapped file once.
+     */
+    private void readStringTable() throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+            throw new IllegalValueException("Invalid AddressBook snapshot string count " + count);
+        }
+        strings = new String[count];
+        for (int i = 0; i < strings.length; i++) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException("Invalid AddressBook snapshot string length " + length);
+            }
+            if (length > stringBytes.length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            buffer.get(stringBytes, 0, length);
+            strings[i] = new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads a person entry, with its tags.
+     */
+    private XmlAdaptedPerson readPerson() throws IllegalValueException {
+        String name = readRequiredString();
+        String phone = readRequiredString();
+        String email = readRequiredString();
+        String address = readRequiredString();
+        String birthday = readRequiredString();
+        String remark = readRequiredString();
+        int flags = buffer.get();
+        boolean isPrivate = (flags & BinaryAddressBookWriter.FLAG_PRIVATE) != 0;
+        boolean isPinned = (flags & BinaryAddressBookWriter.FLAG_PINNED) != 0;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        for (int count = buffer.getInt(); count > 0; count--) {
+            tagged.add(new XmlAdaptedTag(readRequiredString()));
+        }
+        return new XmlAdaptedPerson(name, phone, email, address, birthday, isPrivate, remark, isPinned, tagged);
+    }
+
+    private String readString() {
+        int index = buffer.getInt();
+        return index == BinaryAddressBookWriter.NO_STRING ? null : strings[index];
+    }
+
+    /**
+     * Returns the string whose index is next in the snapshot, which must not be {@code NO_STRING}.
+     */
+    private String readRequiredString() throws IllegalValueException {
+        String value = readString();
+        if (value == null) {
+            throw new IllegalValueException("Missing value in AddressBook snapshot");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * <p>
+ * A snapshot holds the same data as the xml file, with each distinct string stored once, and is read from
+ * a memory-mapped file without parsing. See {@link BinaryAddressBookWriter} for the layout.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The name of this storage format in {@code UserPrefs}. */
+    public static final String STORAGE_FORMAT = "binary";
+    public static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private String filePath;
+    private final Compression compression;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    /**
+     * @param compression the compression the file is written with. Files are read whatever their compression.
+     */
+    public BinaryAddressBookStorage(String filePath, Compression compression) {
+        this.filePath = filePath;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the path of the snapshot kept next to the xml file at {@code xmlFilePath}.
+     */
+    public static String getSnapshotFilePath(String xmlFilePath) {
+        return xmlFilePath + SNAPSHOT_FILE_EXTENSION;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not a binary snapshot of a supported version.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File snapshotFile = new File(filePath);
+        if (!snapshotFile.exists()) {
+            logger.info("AddressBook snapshot " + snapshotFile + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(snapshotFile))) {
+            if (Compression.detect(in) == Compression.Codec.NONE) {
+                return Optional.of(BinaryAddressBookReader.read(snapshotFile.toPath()));
+            }
+            // a compressed snapshot cannot be memory-mapped, so it is decompressed into memory instead
+            InputStream decompressed = Compression.decompress(in);
+            return Optional.of(BinaryAddressBookReader.read(ByteBuffer.wrap(readAllBytes(decompressed))));
+        }
+    }
+
+    /**
+     * Returns the bytes {@code in} has left.
+     */
+    private static byte[] readAllBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+            bytes.write(buffer, 0, count);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The snapshot is written to a temporary file first and then moved over the old one,
+     * so an interruption leaves either the old snapshot or the new one.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        File tempFile = new File(filePath + TEMP_FILE_EXTENSION);
+        FileUtil.createParentDirsOfFile(file);
+        try (OutputStream out = new BufferedOutputStream(compression.compress(new FileOutputStream(tempFile)))) {
+            BinaryAddressBookWriter.write(addressBook, out);
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Saves the whole {@code addressBook}, as a snapshot cannot be updated with the changes alone.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+}
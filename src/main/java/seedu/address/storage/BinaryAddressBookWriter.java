@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Writes an address book as a binary snapshot.
+ * <p>
+ * A snapshot is made of, in order:
+ * <ul>
+ *     <li>the {@link #MAGIC} number and the format {@link #VERSION}</li>
+ *     <li>the string table: the number of strings, then each distinct string as its length in bytes and its UTF-8
+ *     bytes</li>
+ *     <li>the tags, persons, alias tokens and tasks, each section as the number of entries followed by the entries.
+ *     Every string in an entry is written as its index in the string table, or {@link #NO_STRING} if it is null.</li>
+ * </ul>
+ * All numbers are big-endian ints. The entries hold the fields of the {@code XmlAdapted*} objects,
+ * so a snapshot holds the same data as the xml file of the address book.
+ */
+class BinaryAddressBookWriter {
+
+    static final int MAGIC = 0x41425353; // "ABSS"
+    static final int VERSION = 1;
+    static final int NO_STRING = -1;
+
+    static final int FLAG_PRIVATE = 1;
+    static final int FLAG_PINNED = 1 << 1;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream();
+    private final DataOutputStream sections = new DataOutputStream(sectionBytes);
+
+    private BinaryAddressBookWriter() {
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a binary snapshot.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinaryAddressBookWriter writer = new BinaryAddressBookWriter();
+        writer.writeSections(addressBook);
+        writer.writeSnapshot(new DataOutputStream(out));
+    }
+
+    /**
+     * Writes the sections of {@code addressBook}, collecting their strings into the string table.
+     */
+    private void writeSections(ReadOnlyAddressBook addressBook) throws IOException {
+        sections.writeInt(addressBook.getTagList().size());
+        for (Tag tag : addressBook.getTagList()) {
+            writeString(new XmlAdaptedTag(tag).getTagName());
+        }
+
+        sections.writeInt(addressBook.getPersonList().size());
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            writePerson(new XmlAdaptedPerson(person));
+        }
+
+        sections.writeInt(addressBook.getAliasTokenList().size());
+        for (ReadOnlyAliasToken aliasToken : addressBook.getAliasTokenList()) {
+            XmlAdaptedAliasToken adapted = new XmlAdaptedAliasToken(aliasToken);
+            writeString(adapted.getKeyword());
+            writeString(adapted.getRepresentation());
+        }
+
+        sections.writeInt(addressBook.getTaskList().size());
+        for (ReadOnlyTask task : addressBook.getTaskList()) {
+            XmlAdaptedTask adapted = new XmlAdaptedTask(task);
+            writeString(adapted.getHeader());
+            writeString(adapted.getIsCompleted());
+            writeString(adapted.getLastUpdatedTime());
+            writeString(adapted.getStartDateTime());
+            writeString(adapted.getEndDateTime());
+        }
+        sections.flush();
+    }
+
+    /**
+     * Writes the fields of {@code person}, followed by its number of tags and the tags.
+     */
+    private void writePerson(XmlAdaptedPerson person) throws IOException {
+        writeString(person.getName());
+        writeString(person.getPhone());
+        writeString(person.getEmail());
+        writeString(person.getAddress());
+        writeString(person.getBirthday());
+        writeString(person.getRemark());
+        int flags = (person.isPrivate() ? FLAG_PRIVATE : 0) | (person.isPinned() ? FLAG_PINNED : 0);
+        sections.writeByte(flags);
+        sections.writeInt(person.getTagged().size());
+        for (XmlAdaptedTag tag : person.getTagged()) {
+            writeString(tag.getTagName());
+        }
+    }
+
+    /**
+     * Writes the index of {@code value} in the string table, adding it to the table if it is not there yet.
+     */
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            sections.writeInt(NO_STRING);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            stringIndexes.put(value, index);
+            strings.add(value);
+        }
+        sections.writeInt(index);
+    }
+
+    /**
+     * Writes the header, the string table and the sections to {@code out}.
+     */
+    private void writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        sectionBytes.writeTo(out);
+        out.flush();
+    }
+}
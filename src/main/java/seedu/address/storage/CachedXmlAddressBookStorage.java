@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code XmlAddressBookStorage} that keeps a binary image of the address book next to the xml file,
+ * so that the xml file does not have to be parsed on startup.
+ * <p>
+ * The image is a binary snapshot (see {@link BinaryAddressBookWriter}) preceded by the size, the last modified
+ * time and the CRC32 checksum of the xml file it was made from. It is used only while all three still match
+ * the xml file, so the xml file stays the data file and can be edited or replaced by hand. Otherwise the xml
+ * file is read, and the image is rebuilt from it on a background thread.
+ * <p>
+ * Saving writes only the xml file, so that each save costs no more than with {@link XmlAddressBookStorage}.
+ * The image of the last saved address book is written when the storage is closed on a clean shutdown.
+ */
+public class CachedXmlAddressBookStorage extends XmlAddressBookStorage {
+
+    public static final String IMAGE_FILE_EXTENSION = ".image";
+
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(CachedXmlAddressBookStorage.class);
+
+    // the address book last saved to the own xml file and the key of that file, to write the image of on close
+    private ReadOnlyAddressBook unimagedAddressBook;
+    private ImageKey unimagedKey;
+
+    public CachedXmlAddressBookStorage(String filePath) {
+        super(filePath);
+    }
+
+    public CachedXmlAddressBookStorage(String filePath, Compression compression) {
+        super(filePath, compression);
+    }
+
+    public static String getImageFilePath(String filePath) {
+        return filePath + IMAGE_FILE_EXTENSION;
+    }
+
+    /**
+     * Similar to {@link XmlAddressBookStorage#readAddressBook(String)}, but restores the address book from its
+     * image instead if the image was made from the xml file as it is now.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file " + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        long lastModified = addressBookFile.lastModified();
+        byte[] xml = Files.readAllBytes(addressBookFile.toPath());
+        ImageKey key = new ImageKey(xml.length, lastModified, checksum(xml));
+
+        Optional<ReadOnlyAddressBook> image = readImage(filePath, key);
+        if (image.isPresent()) {
+            logger.info("Restored AddressBook from image " + getImageFilePath(filePath));
+            return image;
+        }
+
+        ReadOnlyAddressBook addressBook = XmlAddressBookReader.read(
+                Compression.decompress(new ByteArrayInputStream(xml)));
+        rebuildImageInBackground(filePath, key, addressBook);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Similar to {@link XmlAddressBookStorage#saveAddressBook(ReadOnlyAddressBook, String)}. If the xml file is
+     * the one of this storage, the image of the saved xml file is written when the storage is closed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        try (OutputStream out = getCompression().compress(xml)) {
+            XmlAddressBookWriter.write(addressBook, out);
+        }
+        byte[] xmlBytes = xml.toByteArray();
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        Files.write(file.toPath(), xmlBytes);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            // an AddressBook may change after it is saved, but its snapshot does not
+            setUnimaged(addressBook instanceof AddressBook ? ((AddressBook) addressBook).snapshot() : addressBook,
+                    new ImageKey(xmlBytes.length, file.lastModified(), checksum(xmlBytes)));
+        }
+    }
+
+    private synchronized void setUnimaged(ReadOnlyAddressBook addressBook, ImageKey key) {
+        unimagedAddressBook = addressBook;
+        unimagedKey = key;
+    }
+
+    /**
+     * Writes the image of the address book last saved by this storage, if it has none yet.
+     */
+    @Override
+    public synchronized void close() {
+        if (unimagedAddressBook == null) {
+            return;
+        }
+        writeImageOrDelete(getAddressBookFilePath(), unimagedKey, unimagedAddressBook);
+        setUnimaged(null, null);
+    }
+
+    /**
+     * Returns true if the image of the xml file at {@code filePath} was made from the xml file as it is now.
+     */
+    boolean isImageUpToDate(String filePath) throws IOException {
+        File addressBookFile = new File(filePath);
+        File imageFile = new File(getImageFilePath(filePath));
+        if (!addressBookFile.exists() || !imageFile.exists()) {
+            return false;
+        }
+        long lastModified = addressBookFile.lastModified();
+        byte[] xml = Files.readAllBytes(addressBookFile.toPath());
+        ImageKey key = new ImageKey(xml.length, lastModified, checksum(xml));
+        try (FileChannel channel = FileChannel.open(imageFile.toPath(), StandardOpenOption.READ)) {
+            return key.equals(ImageKey.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the address book in the image of the xml file at {@code filePath}, or an empty {@code Optional}
+     * if there is no image for the xml file with {@code key}.
+     */
+    private Optional<ReadOnlyAddressBook> readImage(String filePath, ImageKey key) {
+        File imageFile = new File(getImageFilePath(filePath));
+        if (!imageFile.exists()) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(imageFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!key.equals(ImageKey.read(buffer))) {
+                logger.info("AddressBook image " + imageFile + " is out of date");
+                return Optional.empty();
+            }
+            return Optional.of(BinaryAddressBookReader.read(buffer));
+        } catch (IOException | DataConversionException | BufferUnderflowException e) {
+            logger.warning("Could not read AddressBook image " + imageFile + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the image of the xml file at {@code filePath} on a new background thread.
+     */
+    private void rebuildImageInBackground(String filePath, ImageKey key, ReadOnlyAddressBook addressBook) {
+        Thread imageWriter = new Thread(() -> writeImageOrDelete(filePath, key, addressBook),
+                "AddressBook image writer");
+        imageWriter.setDaemon(true);
+        imageWriter.start();
+    }
+
+    /**
+     * Writes {@code addressBook} as the image of the xml file at {@code filePath} with {@code key}.
+     * If the image cannot be written, the failure is logged and the old image is deleted, as it is out of date.
+     */
+    private void writeImageOrDelete(String filePath, ImageKey key, ReadOnlyAddressBook addressBook) {
+        try {
+            writeImage(filePath, key, addressBook);
+        } catch (IOException e) {
+            logger.warning("Could not write AddressBook image " + getImageFilePath(filePath) + ": " + e);
+            deleteImage(filePath);
+        }
+    }
+
+    /**
+     * Deletes the image of the xml file at {@code filePath} and its temporary file, logging any failure.
+     */
+    private synchronized void deleteImage(String filePath) {
+        File imageFile = new File(getImageFilePath(filePath));
+        try {
+            Files.deleteIfExists(new File(imageFile.getPath() + TEMP_FILE_EXTENSION).toPath());
+            Files.deleteIfExists(imageFile.toPath());
+        } catch (IOException e) {
+            logger.warning("Could not delete AddressBook image " + imageFile + ": " + e);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the image of the xml file at {@code filePath} with {@code key}.
+     * The image is written to a temporary file first and then moved over the old one.
+     */
+    private synchronized void writeImage(String filePath, ImageKey key, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        File imageFile = new File(getImageFilePath(filePath));
+        File tempImageFile = new File(imageFile.getPath() + TEMP_FILE_EXTENSION);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tempImageFile)))) {
+            key.write(out);
+            BinaryAddressBookWriter.write(addressBook, out);
+        }
+        Files.move(tempImageFile.toPath(), imageFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        logger.fine("Wrote AddressBook image " + imageFile);
+    }
+
+    private static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    /**
+     * Identifies the content of an xml file that an image was made from.
+     */
+    private static class ImageKey {
+        private final long size;
+        private final long lastModified;
+        private final long checksum;
+
+        ImageKey(long size, long lastModified, long checksum) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+
+        static ImageKey read(ByteBuffer buffer) {
+            return new ImageKey(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeLong(checksum);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ImageKey // instanceof handles nulls
+                    && size == ((ImageKey) other).size
+                    && lastModified == ((ImageKey) other).lastModified
+                    && checksum == ((ImageKey) other).checksum);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size ^ lastModified ^ checksum);
+        }
+    }
+}
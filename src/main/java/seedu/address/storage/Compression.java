@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * How AddressBook files are compressed when they are written.
+ * <p>
+ * Files are read back whatever they were written with: the codec of a file is detected from its first bytes,
+ * the gzip magic number or a zlib header, neither of which an uncompressed xml, JSON or binary file starts with.
+ */
+public class Compression {
+
+    /** The compression of files that are not compressed. */
+    public static final Compression NONE = new Compression(Codec.NONE, Deflater.DEFAULT_COMPRESSION);
+
+    public static final String MESSAGE_UNKNOWN_CODEC = "Unknown AddressBook compression %1$s";
+    public static final String MESSAGE_INVALID_LEVEL = "AddressBook compression level should be -1 to 9, but is %1$d";
+
+    private static final int GZIP_MAGIC = 0x1f8b;
+    private static final int HEADER_SIZE = 2;
+
+    /**
+     * A compression codec, named in {@code UserPrefs} by its lower case name.
+     */
+    public enum Codec {
+        NONE, GZIP, DEFLATE
+    }
+
+    private final Codec codec;
+    private final int level;
+
+    private Compression(Codec codec, int level) {
+        this.codec = codec;
+        this.level = level;
+    }
+
+    /**
+     * Returns the compression with the codec named {@code codecName} in any case, and {@code level}.
+     * The level is the deflate level from 0 to 9, or -1 for the default level, and is not used without a codec.
+     *
+     * @throws IllegalValueException if there is no such codec or the level is invalid.
+     */
+    public static Compression fromName(String codecName, int level) throws IllegalValueException {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LEVEL, level));
+        }
+        for (Codec codec : Codec.values()) {
+            if (codec.name().equalsIgnoreCase(codecName)) {
+                return new Compression(codec, level);
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CODEC, codecName));
+    }
+
+    public Codec getCodec() {
+        return codec;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns a stream that writes to {@code out} compressed with this compression.
+     * Closing the returned stream finishes the compressed data and closes {@code out}.
+     */
+    public OutputStream compress(OutputStream out) throws IOException {
+        switch (codec) {
+        case NONE:
+            return out;
+        case GZIP:
+            return new GZIPOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        case DEFLATE:
+            return new DeflaterOutputStream(out, new Deflater(level)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        default:
+            throw new AssertionError("Unknown codec " + codec);
+        }
+    }
+
+    /**
+     * Returns a stream that reads {@code in} decompressed with the codec detected from its first bytes.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in);
+        switch (detect(buffered)) {
+        case GZIP:
+            return new GZIPInputStream(buffered);
+        case DEFLATE:
+            return new InflaterInputStream(buffered);
+        default:
+            return buffered;
+        }
+    }
+
+    /**
+     * Returns the codec {@code in} was compressed with, leaving {@code in} at its start.
+     * {@code in} must support {@code mark}.
+     */
+    static Codec detect(InputStream in) throws IOException {
+        in.mark(HEADER_SIZE);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first < 0 || second < 0) {
+            return Codec.NONE;
+        }
+
+        int header = (first << 8) | second;
+        if (header == GZIP_MAGIC) {
+            return Codec.GZIP;
+        }
+        // a zlib header names the deflate method in the low bits of its first byte and is a multiple of 31
+        if ((first & 0x0f) == Deflater.DEFLATED && header % 31 == 0) {
+            return Codec.DEFLATE;
+        }
+        return Codec.NONE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Compression // instanceof handles nulls
+                && codec == ((Compression) other).codec
+                && level == ((Compression) other).level);
+    }
+
+    @Override
+    public int hashCode() {
+        return codec.hashCode() * 31 + level;
+    }
+
+    @Override
+    public String toString() {
+        return codec.name().toLowerCase() + (codec == Codec.NONE ? "" : " level " + level);
+    }
+}
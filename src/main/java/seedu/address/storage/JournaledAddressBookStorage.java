@@ -0,0 +1,485 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChangeHandler;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * A class to access AddressBook data stored as an xml file plus a write-ahead journal of the changes made since.
+ * <p>
+ * The xml file, called the base, has the same format as the one of {@link XmlAddressBookStorage}.
+ * Each saved delta is appended to the journal as one line per change, followed by a commit line, so saving
+ * takes time proportional to the size of the changes. Once the journal grows larger than the base, the whole
+ * address book is written to a new base and the journal is emptied, which keeps the cost of saving amortized
+ * and the time to replay the journal on reading bounded.
+ * <p>
+ * The first line of the journal holds the checksum of the base it applies to, so a journal left behind by an
+ * interrupted compaction, or a base edited by hand, is never replayed on the wrong base. Changes that were
+ * not committed, such as the tail of a delta whose append was interrupted, are ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** The name of this storage format in {@code UserPrefs}. */
+    public static final String STORAGE_FORMAT = "journal";
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final long DEFAULT_MIN_COMPACTION_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String HEADER_PREFIX = "journal ";
+    private static final String COMMIT = "commit";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final String PERSON_ELEMENT = "person";
+    private static final String TAG_ELEMENT = "tag";
+    private static final String ALIAS_TOKEN_ELEMENT = "aliasToken";
+    private static final String TASK_ELEMENT = "task";
+
+    private static final String ADD_PERSON = "addPerson";
+    private static final String REMOVE_PERSON = "removePerson";
+    private static final String UPDATE_PERSON = "updatePerson";
+    private static final String SORT_PERSONS = "sortPersons";
+    private static final String ADD_TAG = "addTag";
+    private static final String REMOVE_TAG = "removeTag";
+    private static final String ADD_ALIAS_TOKEN = "addAliasToken";
+    private static final String REMOVE_ALIAS_TOKEN = "removeAliasToken";
+    private static final String ADD_TASK = "addTask";
+    private static final String REMOVE_TASK = "removeTask";
+    private static final String UPDATE_TASK = "updateTask";
+
+    private final XmlAddressBookStorage baseStorage;
+    private final String filePath;
+    private final long minCompactionSize;
+
+    // whether the base and the journal hold exactly the address book that was last read or saved
+    private boolean isInSync = false;
+    private long baseSize;
+    private long journalSize;
+
+    public JournaledAddressBookStorage(String filePath) {
+        this(filePath, DEFAULT_MIN_COMPACTION_SIZE);
+    }
+
+    public JournaledAddressBookStorage(String filePath, Compression compression) {
+        this(filePath, DEFAULT_MIN_COMPACTION_SIZE, compression);
+    }
+
+    /**
+     * @param minCompactionSize the size in bytes the journal may always grow to before it is compacted,
+     *                          even if the base is smaller.
+     */
+    public JournaledAddressBookStorage(String filePath, long minCompactionSize) {
+        this(filePath, minCompactionSize, Compression.NONE);
+    }
+
+    /**
+     * @param minCompactionSize the size in bytes the journal may always grow to before it is compacted,
+     *                          even if the base is smaller.
+     * @param compression the compression the base is written with. The journal is not compressed.
+     */
+    public JournaledAddressBookStorage(String filePath, long minCompactionSize, Compression compression) {
+        requireNonNull(filePath);
+        this.baseStorage = new XmlAddressBookStorage(filePath, compression);
+        this.filePath = filePath;
+        this.minCompactionSize = minCompactionSize;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the base at {@code filePath}.
+     */
+    public static String getJournalFilePath(String filePath) {
+        return filePath + JOURNAL_FILE_EXTENSION;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the base. Cannot be null
+     * @throws DataConversionException if the base or the journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+
+        File baseFile = new File(filePath);
+        if (!baseFile.exists()) {
+            logger.info("AddressBook file " + baseFile + " not found");
+            return Optional.empty();
+        }
+
+        byte[] base = Files.readAllBytes(baseFile.toPath());
+        AddressBook addressBook = new AddressBook(XmlFileStorage.loadAddressBookFromFile(baseFile));
+
+        File journalFile = new File(getJournalFilePath(filePath));
+        boolean isJournalReplayed = journalFile.exists() && replayJournal(journalFile, checksum(base), addressBook);
+
+        if (isOwnFile && isJournalReplayed) {
+            isInSync = true;
+            baseSize = base.length;
+            journalSize = journalFile.length();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Saving to a file other than {@link #getAddressBookFilePath()} writes only a base, without a journal.
+     * @param filePath location of the data. Cannot be null
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            compact(addressBook);
+        } else {
+            baseStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, or compacts the journal into a new base if it has grown
+     * larger than the base, if the changes cannot be journaled, or if the files on disk did not hold the address
+     * book that the changes were made on.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+            throws IOException {
+        requireNonNull(addressBook);
+
+        if (!isInSync || changes == null) {
+            compact(addressBook);
+            return;
+        }
+
+        JournalEncoder encoder = new JournalEncoder();
+        try {
+            changes.replay(encoder);
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        if (encoder.isDataReset) {
+            compact(addressBook);
+            return;
+        }
+        if (encoder.entries.length() == 0) {
+            return;
+        }
+
+        byte[] entries = encoder.entries.append(COMMIT).append(LINE_SEPARATOR).toString()
+                .getBytes(StandardCharsets.UTF_8);
+        if (journalSize + entries.length > Math.max(minCompactionSize, baseSize)) {
+            compact(addressBook);
+        } else {
+            append(entries);
+        }
+    }
+
+    /**
+     * Writes {@code entries} at the end of the journal and forces them to the disk.
+     */
+    private void append(byte[] entries) throws IOException {
+        isInSync = false;
+        try (FileOutputStream out = new FileOutputStream(getJournalFilePath(filePath), true)) {
+            out.write(entries);
+            out.getChannel().force(false);
+        }
+        journalSize += entries.length;
+        isInSync = true;
+    }
+
+    /**
+     * Writes {@code addressBook} to a new base and starts an empty journal for it.
+     * Each file is written to a temporary file first and then moved over the old one, so an interruption leaves
+     * either the old files or the new ones.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        isInSync = false;
+
+        File baseFile = new File(filePath);
+        File tempBaseFile = new File(filePath + TEMP_FILE_EXTENSION);
+        baseStorage.saveAddressBook(addressBook, tempBaseFile.getPath());
+        byte[] base = Files.readAllBytes(tempBaseFile.toPath());
+        Files.move(tempBaseFile.toPath(), baseFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        File journalFile = new File(getJournalFilePath(filePath));
+        File tempJournalFile = new File(journalFile.getPath() + TEMP_FILE_EXTENSION);
+        byte[] header = (HEADER_PREFIX + Long.toHexString(checksum(base)) + LINE_SEPARATOR)
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(tempJournalFile.toPath(), header);
+        Files.move(tempJournalFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        logger.fine("Compacted AddressBook journal into " + baseFile);
+        baseSize = base.length;
+        journalSize = header.length;
+        isInSync = true;
+    }
+
+    private static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    // ================ Reading the journal ==============================
+
+    /**
+     * Applies the committed changes in {@code journalFile} to {@code addressBook}, which holds the base.
+     * Returns true if the journal applies to a base with {@code baseChecksum} and has no uncommitted changes,
+     * so that further changes can be appended to it.
+     *
+     * @throws DataConversionException if a committed change is not in the correct format or cannot be applied.
+     */
+    private static boolean replayJournal(File journalFile, long baseChecksum, AddressBook addressBook)
+            throws DataConversionException, IOException {
+        String[] lines = new String(Files.readAllBytes(journalFile.toPath()), StandardCharsets.UTF_8)
+                .split(LINE_SEPARATOR, -1);
+        if (!lines[0].equals(HEADER_PREFIX + Long.toHexString(baseChecksum))) {
+            logger.warning("Ignoring journal " + journalFile + " as it does not belong to the AddressBook file");
+            return false;
+        }
+
+        List<String[]> pendingEntries = new ArrayList<>();
+        int appliedCount = 0;
+        // the last element is what follows the last line separator, which is empty unless a write was interrupted
+        for (int i = 1; i < lines.length - 1; i++) {
+            if (lines[i].equals(COMMIT)) {
+                for (String[] entry : pendingEntries) {
+                    applyEntry(entry, addressBook);
+                }
+                appliedCount += pendingEntries.size();
+                pendingEntries.clear();
+            } else {
+                pendingEntries.add(lines[i].split(FIELD_SEPARATOR, -1));
+            }
+        }
+        logger.info("Replayed " + appliedCount + " changes from journal " + journalFile);
+
+        boolean hasUncommittedChanges = !pendingEntries.isEmpty() || !lines[lines.length - 1].isEmpty();
+        if (hasUncommittedChanges) {
+            logger.warning("Ignoring the uncommitted changes at the end of journal " + journalFile);
+        }
+        return !hasUncommittedChanges;
+    }
+
+    /**
+     * Makes the change described by the fields of a journal line on {@code addressBook}.
+     */
+    private static void applyEntry(String[] fields, AddressBook addressBook) throws DataConversionException {
+        try {
+            switch (fields[0]) {
+            case ADD_PERSON:
+                addressBook.insertPerson(Integer.parseInt(fields[1]), toPerson(fields[2]));
+                break;
+            case REMOVE_PERSON:
+                addressBook.removePerson(toPerson(fields[1]));
+                break;
+            case UPDATE_PERSON:
+                addressBook.updatePerson(toPerson(fields[1]), toPerson(fields[2]));
+                break;
+            case SORT_PERSONS:
+                addressBook.sortList(URLDecoder.decode(fields[1], StandardCharsets.UTF_8.name()));
+                break;
+            case ADD_TAG:
+                addressBook.addTag(XmlUtil.fromXmlFragment(fields[1], XmlAdaptedTag.class).toModelType());
+                break;
+            case REMOVE_TAG:
+                addressBook.removeTag(XmlUtil.fromXmlFragment(fields[1], XmlAdaptedTag.class).toModelType());
+                break;
+            case ADD_ALIAS_TOKEN:
+                addressBook.insertAliasToken(Integer.parseInt(fields[1]), toAliasToken(fields[2]));
+                break;
+            case REMOVE_ALIAS_TOKEN:
+                addressBook.removeAliasToken(toAliasToken(fields[1]));
+                break;
+            case ADD_TASK:
+                addressBook.insertTask(Integer.parseInt(fields[1]), toTask(fields[2]));
+                break;
+            case REMOVE_TASK:
+                addressBook.removeTask(toTask(fields[1]));
+                break;
+            case UPDATE_TASK:
+                addressBook.updateTask(toTask(fields[1]), toTask(fields[2]));
+                break;
+            default:
+                throw new IllegalValueException("Unknown journal entry: " + fields[0]);
+            }
+        } catch (Exception e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static ReadOnlyPerson toPerson(String xml) throws JAXBException, IllegalValueException {
+        return XmlUtil.fromXmlFragment(xml, XmlAdaptedPerson.class).toModelType();
+    }
+
+    private static ReadOnlyAliasToken toAliasToken(String xml) throws JAXBException, IllegalValueException {
+        return XmlUtil.fromXmlFragment(xml, XmlAdaptedAliasToken.class).toModelType();
+    }
+
+    private static ReadOnlyTask toTask(String xml) throws JAXBException, IllegalValueException {
+        return XmlUtil.fromXmlFragment(xml, XmlAdaptedTask.class).toModelType();
+    }
+
+    // ================ Writing the journal ==============================
+
+    /**
+     * Encodes each change of a delta as a journal line, in the format the base stores the changed data in.
+     */
+    private static class JournalEncoder implements AddressBookChangeHandler {
+        private final StringBuilder entries = new StringBuilder();
+        private boolean isDataReset = false;
+
+        @Override
+        public void personAdded(int index, ReadOnlyPerson person) {
+            addEntry(ADD_PERSON, Integer.toString(index), fromPerson(person));
+        }
+
+        @Override
+        public void personRemoved(ReadOnlyPerson person) {
+            addEntry(REMOVE_PERSON, fromPerson(person));
+        }
+
+        @Override
+        public void personReplaced(ReadOnlyPerson before, ReadOnlyPerson after) {
+            String beforeXml = fromPerson(before);
+            String afterXml = fromPerson(after);
+            // changes to state that is not stored, such as selecting a person, are not journaled
+            if (!beforeXml.equals(afterXml)) {
+                addEntry(UPDATE_PERSON, beforeXml, afterXml);
+            }
+        }
+
+        @Override
+        public void personsSorted(String sortKey) {
+            try {
+                addEntry(SORT_PERSONS, URLEncoder.encode(sortKey, StandardCharsets.UTF_8.name()));
+            } catch (UnsupportedEncodingException uee) {
+                throw new AssertionError("UTF-8 is always supported", uee);
+            }
+        }
+
+        @Override
+        public void tagDeclared(Tag tag) {
+            addEntry(ADD_TAG, toXml(new XmlAdaptedTag(tag), XmlAdaptedTag.class, TAG_ELEMENT));
+        }
+
+        @Override
+        public void tagRemoved(Tag tag) {
+            addEntry(REMOVE_TAG, toXml(new XmlAdaptedTag(tag), XmlAdaptedTag.class, TAG_ELEMENT));
+        }
+
+        @Override
+        public void aliasTokenAdded(int index, ReadOnlyAliasToken token) {
+            addEntry(ADD_ALIAS_TOKEN, Integer.toString(index), fromAliasToken(token));
+        }
+
+        @Override
+        public void aliasTokenRemoved(ReadOnlyAliasToken token) {
+            addEntry(REMOVE_ALIAS_TOKEN, fromAliasToken(token));
+        }
+
+        @Override
+        public void taskAdded(int index, ReadOnlyTask task) {
+            addEntry(ADD_TASK, Integer.toString(index), fromTask(task));
+        }
+
+        @Override
+        public void taskRemoved(ReadOnlyTask task) {
+            addEntry(REMOVE_TASK, fromTask(task));
+        }
+
+        @Override
+        public void taskReplaced(ReadOnlyTask before, ReadOnlyTask after) {
+            String beforeXml = fromTask(before);
+            String afterXml = fromTask(after);
+            if (!beforeXml.equals(afterXml)) {
+                addEntry(UPDATE_TASK, beforeXml, afterXml);
+            }
+        }
+
+        @Override
+        public void dataReset() {
+            isDataReset = true;
+        }
+
+        private void addEntry(String... fields) {
+            entries.append(String.join(FIELD_SEPARATOR, fields)).append(LINE_SEPARATOR);
+        }
+
+        private String fromPerson(ReadOnlyPerson person) {
+            return toXml(new XmlAdaptedPerson(person), XmlAdaptedPerson.class, PERSON_ELEMENT);
+        }
+
+        private String fromAliasToken(ReadOnlyAliasToken token) {
+            return toXml(new XmlAdaptedAliasToken(token), XmlAdaptedAliasToken.class, ALIAS_TOKEN_ELEMENT);
+        }
+
+        private String fromTask(ReadOnlyTask task) {
+            return toXml(new XmlAdaptedTask(task), XmlAdaptedTask.class, TASK_ELEMENT);
+        }
+
+        /**
+         * Returns {@code data} as an XML element on a single line, with the line and field separators in its
+         * text replaced by character references.
+         */
+        private static <T> String toXml(T data, Class<T> type, String elementName) {
+            try {
+                return XmlUtil.toXmlFragment(data, type, elementName)
+                        .replace("\t", "&#9;").replace("\n", "&#10;").replace("\r", "&#13;");
+            } catch (JAXBException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Reads an address book written by {@link JsonAddressBookWriter} with a streaming {@code JsonParser},
+ * converting each entry into a model object as soon as it is read, without building a tree of the document.
+ * Unknown fields are skipped.
+ */
+class JsonAddressBookReader {
+
+    private final JsonParser parser;
+
+    private final ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList();
+    private final ObservableList<Tag> tags = FXCollections.observableArrayList();
+    private final ObservableList<ReadOnlyAliasToken> aliasTokens = FXCollections.observableArrayList();
+    private final ObservableList<ReadOnlyTask> tasks = FXCollections.observableArrayList();
+
+    private JsonAddressBookReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Returns the address book in {@code in}.
+     *
+     * @throws DataConversionException if {@code in} is not an address book in the JSON format.
+     */
+    static ReadOnlyAddressBook read(InputStream in) throws DataConversionException, IOException {
+        try (JsonParser parser = JsonAddressBookWriter.JSON_FACTORY.createParser(in)) {
+            return new JsonAddressBookReader(parser).readAddressBook();
+        } catch (JsonProcessingException | IllegalValueException | DateTimeParseException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the top-level object and returns its contents.
+     */
+    private ReadOnlyAddressBook readAddressBook() throws IOException, IllegalValueException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+            case XmlAddressBookWriter.PERSON_ELEMENT:
+                expect(token, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    persons.add(readPerson().toModelType());
+                }
+                break;
+            case XmlAddressBookWriter.TAG_ELEMENT:
+                expect(token, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    tags.add(new XmlAdaptedTag(readRequiredString(XmlAddressBookWriter.TAG_ELEMENT)).toModelType());
+                }
+                break;
+            case XmlAddressBookWriter.ALIAS_TOKEN_ELEMENT:
+                expect(token, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    aliasTokens.add(readAliasToken().toModelType());
+                }
+                break;
+            case XmlAddressBookWriter.TASK_ELEMENT:
+                expect(token, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    tasks.add(readTask().toModelType());
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new LoadedAddressBook(persons, tags, aliasTokens, tasks);
+    }
+
+    /**
+     * Reads the person object the parser is at, leaving the parser at its end.
+     */
+    private XmlAdaptedPerson readPerson() throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String birthday = null;
+        boolean isPrivate = false;
+        String remark = null;
+        boolean isPinned = false;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "name":
+                name = readString(fieldName);
+                break;
+            case "phone":
+                phone = readString(fieldName);
+                break;
+            case "email":
+                email = readString(fieldName);
+                break;
+            case "address":
+                address = readString(fieldName);
+                break;
+            case "birthday":
+                birthday = readString(fieldName);
+                break;
+            case "isPrivate":
+                isPrivate = readBoolean(fieldName);
+                break;
+            case "remark":
+                remark = readString(fieldName);
+                break;
+            case "isPinned":
+                isPinned = readBoolean(fieldName);
+                break;
+            case "tagged":
+                expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    tagged.add(new XmlAdaptedTag(readRequiredString(fieldName)));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        requireField(name, "name");
+        requireField(phone, "phone");
+        requireField(email, "email");
+        requireField(address, "address");
+        requireField(birthday, "birthday");
+        requireField(remark, "remark");
+        return new XmlAdaptedPerson(name, phone, email, address, birthday, isPrivate, remark, isPinned, tagged);
+    }
+
+    /**
+     * Reads the alias token object the parser is at, leaving the parser at its end.
+     */
+    private XmlAdaptedAliasToken readAliasToken() throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String keyword = null;
+        String representation = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "keyword":
+                keyword = readString(fieldName);
+                break;
+            case "representation":
+                representation = readString(fieldName);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        requireField(keyword, "keyword");
+        requireField(representation, "representation");
+        return new XmlAdaptedAliasToken(keyword, representation);
+    }
+
+    /**
+     * Reads the task object the parser is at, leaving the parser at its end.
+     */
+    private XmlAdaptedTask readTask() throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String header = null;
+        boolean isCompleted = false;
+        String lastUpdatedTime = null;
+        String startDateTime = null;
+        String endDateTime = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "header":
+                header = readString(fieldName);
+                break;
+            case "isCompleted":
+                isCompleted = readBoolean(fieldName);
+                break;
+            case "lastUpdatedTime":
+                lastUpdatedTime = readString(fieldName);
+                break;
+            case "startDateTime":
+                startDateTime = readString(fieldName);
+                break;
+            case "endDateTime":
+                endDateTime = readString(fieldName);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        requireField(header, "header");
+        return new XmlAdaptedTask(header, Boolean.toString(isCompleted), lastUpdatedTime, startDateTime,
+                endDateTime);
+    }
+
+    /**
+     * Returns the string value the parser is at, or null if the value is {@code null}.
+     */
+    private String readString(String fieldName) throws IOException, IllegalValueException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new IllegalValueException("Expected a string for " + fieldName + " but found " + token);
+        }
+        return parser.getText();
+    }
+
+    private String readRequiredString(String fieldName) throws IOException, IllegalValueException {
+        String value = readString(fieldName);
+        requireField(value, fieldName);
+        return value;
+    }
+
+    /**
+     * Returns the boolean value the parser is at.
+     */
+    private boolean readBoolean(String fieldName) throws IllegalValueException {
+        JsonToken token = parser.getCurrentToken();
+        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+            throw new IllegalValueException("Expected a boolean for " + fieldName + " but found " + token);
+        }
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IllegalValueException {
+        if (actual != expected) {
+            throw new IllegalValueException("Expected " + expected + " but found " + actual);
+        }
+    }
+
+    private static void requireField(String value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException("Missing field " + fieldName);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a JSON file on the hard disk.
+ * <p>
+ * The file holds the same data as the xml file and is read and written one entry at a time with Jackson's
+ * streaming parser and generator. See {@link JsonAddressBookWriter} for the layout.
+ */
+public class JsonAddressBookStorage implements AddressBookStorage {
+
+    /** The name of this storage format in {@code UserPrefs}. */
+    public static final String STORAGE_FORMAT = "json";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+
+    private String filePath;
+    private final Compression compression;
+
+    public JsonAddressBookStorage(String filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    /**
+     * @param compression the compression the file is written with. Files are read whatever their compression.
+     */
+    public JsonAddressBookStorage(String filePath, Compression compression) {
+        this.filePath = filePath;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the path of the JSON file kept next to the xml file at {@code xmlFilePath}.
+     */
+    public static String getJsonFilePath(String xmlFilePath) {
+        return xmlFilePath + JSON_FILE_EXTENSION;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not an address book in the JSON format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File jsonFile = new File(filePath);
+        if (!jsonFile.exists()) {
+            logger.info("AddressBook file " + jsonFile + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = Compression.decompress(new BufferedInputStream(new FileInputStream(jsonFile)))) {
+            return Optional.of(JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The file is written to a temporary file first and then moved over the old one,
+     * so an interruption leaves either the old file or the new one.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        File tempFile = new File(filePath + TEMP_FILE_EXTENSION);
+        FileUtil.createParentDirsOfFile(file);
+        try (OutputStream out = new BufferedOutputStream(compression.compress(new FileOutputStream(tempFile)))) {
+            JsonAddressBookWriter.write(addressBook, out);
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Saves the whole {@code addressBook}, as a JSON file cannot be updated with the changes alone.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+}
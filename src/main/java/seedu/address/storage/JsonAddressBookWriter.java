@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Writes an address book as JSON with a streaming {@code JsonGenerator}, one entry at a time.
+ * <p>
+ * The JSON object has the same persons, tags, aliasTokens and tasks as the xml format, each an array whose entries
+ * have the fields of the {@code XmlAdapted*} objects. The {@code isPrivate}, {@code isPinned} and
+ * {@code isCompleted} fields are booleans, and the fields a task does not have are left out.
+ */
+class JsonAddressBookWriter {
+
+    static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    private JsonAddressBookWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as JSON.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            new JsonAddressBookWriter(generator).writeAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * Writes the JSON object of {@code addressBook}.
+     */
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart(XmlAddressBookWriter.PERSON_ELEMENT);
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            writePerson(new XmlAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(XmlAddressBookWriter.TAG_ELEMENT);
+        for (Tag tag : addressBook.getTagList()) {
+            generator.writeString(new XmlAdaptedTag(tag).getTagName());
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(XmlAddressBookWriter.ALIAS_TOKEN_ELEMENT);
+        for (ReadOnlyAliasToken aliasToken : addressBook.getAliasTokenList()) {
+            XmlAdaptedAliasToken adapted = new XmlAdaptedAliasToken(aliasToken);
+            generator.writeStartObject();
+            generator.writeStringField("keyword", adapted.getKeyword());
+            generator.writeStringField("representation", adapted.getRepresentation());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(XmlAddressBookWriter.TASK_ELEMENT);
+        for (ReadOnlyTask task : addressBook.getTaskList()) {
+            writeTask(new XmlAdaptedTask(task));
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the JSON object of {@code person}, with its tags as an array of tag names.
+     */
+    private void writePerson(XmlAdaptedPerson person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName());
+        generator.writeStringField("phone", person.getPhone());
+        generator.writeStringField("email", person.getEmail());
+        generator.writeStringField("address", person.getAddress());
+        generator.writeStringField("birthday", person.getBirthday());
+        generator.writeBooleanField("isPrivate", person.isPrivate());
+        generator.writeStringField("remark", person.getRemark());
+        generator.writeBooleanField("isPinned", person.isPinned());
+        generator.writeArrayFieldStart("tagged");
+        for (XmlAdaptedTag tag : person.getTagged()) {
+            generator.writeString(tag.getTagName());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the JSON object of {@code task}, leaving out the times it does not have.
+     */
+    private void writeTask(XmlAdaptedTask task) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("header", task.getHeader());
+        generator.writeBooleanField("isCompleted", Boolean.parseBoolean(task.getIsCompleted()));
+        writeStringFieldIfPresent("lastUpdatedTime", task.getLastUpdatedTime());
+        writeStringFieldIfPresent("startDateTime", task.getStartDateTime());
+        writeStringFieldIfPresent("endDateTime", task.getEndDateTime());
+        generator.writeEndObject();
+    }
+
+    private void writeStringFieldIfPresent(String fieldName, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(fieldName, value);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * An address book read from a file, holding the model objects in the order they were read.
+ */
+class LoadedAddressBook implements ReadOnlyAddressBook {
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+    private final ObservableList<ReadOnlyAliasToken> aliasTokens;
+    private final ObservableList<ReadOnlyTask> tasks;
+
+    LoadedAddressBook(ObservableList<ReadOnlyPerson> persons, ObservableList<Tag> tags,
+                      ObservableList<ReadOnlyAliasToken> aliasTokens, ObservableList<ReadOnlyTask> tasks) {
+        this.persons = FXCollections.unmodifiableObservableList(persons);
+        this.tags = FXCollections.unmodifiableObservableList(tags);
+        this.aliasTokens = FXCollections.unmodifiableObservableList(aliasTokens);
+        this.tasks = FXCollections.unmodifiableObservableList(tasks);
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyAliasToken> getAliasTokenList() {
+        return aliasTokens;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyTask> getTaskList() {
+        return tasks;
+    }
+}
@@ -0,0 +1,400 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookChangeHandler;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * A class to access AddressBook data stored as separate persons, tags, alias tokens and tasks sections,
+ * so that a save only rewrites the sections that were changed.
+ * <p>
+ * The file of the storage is a manifest naming the current version of each section. Each section is an xml file
+ * in the format of {@code XmlSerializableAddressBook} holding only that section, and every write of a section
+ * makes a new version of it in a new file, named {@code <file>.<section>.<version>}. The manifest is replaced
+ * after the new sections are written, so an interruption leaves either the old sections or the new ones.
+ * Both the sections and the manifest are written to a temporary file first and then renamed.
+ */
+public class SectionedAddressBookStorage implements AddressBookStorage {
+
+    /** The name of this storage format in {@code UserPrefs}. */
+    public static final String STORAGE_FORMAT = "sectioned";
+    public static final String MANIFEST_FILE_EXTENSION = ".sections";
+
+    private static final String MANIFEST_HEADER = "sections 1";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final Logger logger = LogsCenter.getLogger(SectionedAddressBookStorage.class);
+
+    /**
+     * The independently saved parts of an address book.
+     */
+    enum Section {
+        PERSONS("persons"), TAGS("tags"), ALIAS_TOKENS("aliasTokens"), TASKS("tasks");
+
+        private final String name;
+
+        Section(String name) {
+            this.name = name;
+        }
+    }
+
+    private final String filePath;
+    private final Compression compression;
+
+    // the current version of each section of the file at filePath, valid while isInSync
+    private final Map<Section, Long> sectionVersions = new EnumMap<>(Section.class);
+    private boolean isInSync = false;
+
+    public SectionedAddressBookStorage(String filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    /**
+     * @param compression the compression the section files are written with. The manifest is not compressed.
+     */
+    public SectionedAddressBookStorage(String filePath, Compression compression) {
+        this.filePath = filePath;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the path of the manifest kept next to the xml file at {@code xmlFilePath}.
+     */
+    public static String getManifestFilePath(String xmlFilePath) {
+        return xmlFilePath + MANIFEST_FILE_EXTENSION;
+    }
+
+    static String getSectionFilePath(String filePath, Section section, long version) {
+        return filePath + "." + section.name + "." + version;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a section is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+
+        File manifestFile = new File(filePath);
+        if (!manifestFile.exists()) {
+            logger.info("AddressBook manifest " + manifestFile + " not found");
+            return Optional.empty();
+        }
+
+        Map<Section, Long> versions = readManifest(manifestFile);
+        ObservableList<ReadOnlyPerson> persons = readSection(filePath, Section.PERSONS, versions).getPersonList();
+        ObservableList<Tag> tags = readSection(filePath, Section.TAGS, versions).getTagList();
+        ObservableList<ReadOnlyAliasToken> aliasTokens =
+                readSection(filePath, Section.ALIAS_TOKENS, versions).getAliasTokenList();
+        ObservableList<ReadOnlyTask> tasks = readSection(filePath, Section.TASKS, versions).getTaskList();
+
+        if (isOwnFile) {
+            sectionVersions.clear();
+            sectionVersions.putAll(versions);
+            isInSync = true;
+        }
+        return Optional.of(new LoadedAddressBook(persons, tags, aliasTokens, tasks));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, writing every section.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+
+        // the new versions must not overwrite the sections named by the current manifest
+        Map<Section, Long> versions = isOwnFile && isInSync
+                ? new EnumMap<>(sectionVersions)
+                : readManifestIfValid(new File(filePath));
+        if (isOwnFile) {
+            isInSync = false;
+        }
+        writeSections(addressBook, filePath, EnumSet.allOf(Section.class), versions);
+
+        if (isOwnFile) {
+            sectionVersions.clear();
+            sectionVersions.putAll(versions);
+            isInSync = true;
+        }
+    }
+
+    /**
+     * Writes only the sections that {@code changes} touched, if the address book was last read from or saved to
+     * this storage. Otherwise every section is written.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        if (!isInSync || changes == null) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        DirtySections dirtySections = new DirtySections();
+        changes.replay(dirtySections);
+        if (dirtySections.sections.isEmpty()) {
+            return;
+        }
+
+        isInSync = false;
+        Map<Section, Long> versions = new EnumMap<>(sectionVersions);
+        writeSections(addressBook, filePath, dirtySections.sections, versions);
+        sectionVersions.clear();
+        sectionVersions.putAll(versions);
+        isInSync = true;
+    }
+
+    /**
+     * Writes a new version of each of {@code sections} of {@code addressBook}, then a manifest naming them and
+     * the unchanged sections in {@code versions}, and deletes the versions the manifest no longer names.
+     * {@code versions} is updated to the versions in the new manifest.
+     */
+    private void writeSections(ReadOnlyAddressBook addressBook, String filePath, Set<Section> sections,
+                               Map<Section, Long> versions) throws IOException {
+        File manifestFile = new File(filePath);
+        FileUtil.createParentDirsOfFile(manifestFile);
+        Map<Section, Long> oldVersions = new EnumMap<>(versions);
+
+        for (Section section : sections) {
+            long version = versions.getOrDefault(section, 0L) + 1;
+            File sectionFile = new File(getSectionFilePath(filePath, section, version));
+            ByteArrayOutputStream xml = new ByteArrayOutputStream();
+            try (OutputStream out = compression.compress(xml)) {
+                XmlAddressBookWriter.write(getSection(addressBook, section), out);
+            }
+            writeAtomically(sectionFile, xml.toByteArray());
+            versions.put(section, version);
+        }
+
+        StringBuilder manifest = new StringBuilder(MANIFEST_HEADER + LINE_SEPARATOR);
+        for (Section section : Section.values()) {
+            manifest.append(section.name).append(FIELD_SEPARATOR).append(versions.getOrDefault(section, 0L))
+                    .append(LINE_SEPARATOR);
+        }
+        writeAtomically(manifestFile, manifest.toString().getBytes(StandardCharsets.UTF_8));
+
+        for (Section section : sections) {
+            if (oldVersions.containsKey(section)) {
+                Files.deleteIfExists(new File(getSectionFilePath(filePath, section, oldVersions.get(section)))
+                        .toPath());
+            }
+        }
+        logger.fine("Saved AddressBook sections " + sections + " of " + manifestFile);
+    }
+
+    /**
+     * Returns an address book holding only {@code section} of {@code addressBook}.
+     */
+    private static ReadOnlyAddressBook getSection(ReadOnlyAddressBook addressBook, Section section) {
+        switch (section) {
+        case PERSONS:
+            return new LoadedAddressBook(addressBook.getPersonList(), FXCollections.observableArrayList(),
+                    FXCollections.observableArrayList(), FXCollections.observableArrayList());
+        case TAGS:
+            return new LoadedAddressBook(FXCollections.observableArrayList(), addressBook.getTagList(),
+                    FXCollections.observableArrayList(), FXCollections.observableArrayList());
+        case ALIAS_TOKENS:
+            return new LoadedAddressBook(FXCollections.observableArrayList(), FXCollections.observableArrayList(),
+                    addressBook.getAliasTokenList(), FXCollections.observableArrayList());
+        case TASKS:
+            return new LoadedAddressBook(FXCollections.observableArrayList(), FXCollections.observableArrayList(),
+                    FXCollections.observableArrayList(), addressBook.getTaskList());
+        default:
+            throw new AssertionError("Unknown section " + section);
+        }
+    }
+
+    /**
+     * Returns the address book in the version of {@code section} named in {@code versions}.
+     */
+    private static ReadOnlyAddressBook readSection(String filePath, Section section, Map<Section, Long> versions)
+            throws DataConversionException, IOException {
+        File sectionFile = new File(getSectionFilePath(filePath, section, versions.get(section)));
+        if (!sectionFile.exists()) {
+            throw new DataConversionException(new IllegalValueException("Missing AddressBook section " + sectionFile));
+        }
+        byte[] xml = Files.readAllBytes(sectionFile.toPath());
+        return XmlAddressBookReader.read(Compression.decompress(new ByteArrayInputStream(xml)));
+    }
+
+    /**
+     * Returns the version of each section named in the manifest file.
+     */
+    private static Map<Section, Long> readManifest(File manifestFile) throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(MANIFEST_HEADER)) {
+            throw new DataConversionException(new IllegalValueException("Not an AddressBook manifest"));
+        }
+
+        Map<Section, Long> versions = new EnumMap<>(Section.class);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(FIELD_SEPARATOR);
+            for (Section section : Section.values()) {
+                if (fields.length == 2 && section.name.equals(fields[0])) {
+                    try {
+                        versions.put(section, Long.parseLong(fields[1]));
+                    } catch (NumberFormatException nfe) {
+                        throw new DataConversionException(nfe);
+                    }
+                }
+            }
+        }
+        if (versions.size() != Section.values().length) {
+            throw new DataConversionException(new IllegalValueException("Incomplete AddressBook manifest"));
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the version of each section named in the manifest file, or no versions if there is no valid manifest.
+     */
+    private static Map<Section, Long> readManifestIfValid(File manifestFile) throws IOException {
+        if (!manifestFile.exists()) {
+            return new EnumMap<>(Section.class);
+        }
+        try {
+            return readManifest(manifestFile);
+        } catch (DataConversionException dce) {
+            logger.warning("Replacing invalid AddressBook manifest " + manifestFile);
+            return new EnumMap<>(Section.class);
+        }
+    }
+
+    /**
+     * Writes {@code data} to a temporary file and renames it to {@code file}.
+     */
+    private static void writeAtomically(File file, byte[] data) throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_FILE_EXTENSION);
+        Files.write(tempFile.toPath(), data);
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Collects the sections touched by the changes it is given.
+     * A change of the persons can also change the tags, as persons declare the tags they refer to.
+     */
+    private static class DirtySections implements AddressBookChangeHandler {
+        private final Set<Section> sections = EnumSet.noneOf(Section.class);
+
+        @Override
+        public void personAdded(int index, ReadOnlyPerson person) {
+            sections.add(Section.PERSONS);
+            sections.add(Section.TAGS);
+        }
+
+        @Override
+        public void personRemoved(ReadOnlyPerson person) {
+            sections.add(Section.PERSONS);
+            sections.add(Section.TAGS);
+        }
+
+        @Override
+        public void personReplaced(ReadOnlyPerson before, ReadOnlyPerson after) {
+            sections.add(Section.PERSONS);
+            sections.add(Section.TAGS);
+        }
+
+        @Override
+        public void personsSorted(String sortKey) {
+            sections.add(Section.PERSONS);
+        }
+
+        @Override
+        public void tagDeclared(Tag tag) {
+            sections.add(Section.TAGS);
+        }
+
+        @Override
+        public void tagRemoved(Tag tag) {
+            sections.add(Section.TAGS);
+        }
+
+        @Override
+        public void aliasTokenAdded(int index, ReadOnlyAliasToken token) {
+            sections.add(Section.ALIAS_TOKENS);
+        }
+
+        @Override
+        public void aliasTokenRemoved(ReadOnlyAliasToken token) {
+            sections.add(Section.ALIAS_TOKENS);
+        }
+
+        @Override
+        public void taskAdded(int index, ReadOnlyTask task) {
+            sections.add(Section.TASKS);
+        }
+
+        @Override
+        public void taskRemoved(ReadOnlyTask task) {
+            sections.add(Section.TASKS);
+        }
+
+        @Override
+        public void taskReplaced(ReadOnlyTask before, ReadOnlyTask after) {
+            sections.add(Section.TASKS);
+        }
+
+        @Override
+        public void dataReset() {
+            sections.addAll(EnumSet.allOf(Section.class));
+        }
+    }
+}
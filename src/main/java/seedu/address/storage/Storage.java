@@ -32,7 +32,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     /**
      * Saves the current version of the Address Book to the hard disk.
      *   Creates the data file if it is missing.
+     *   The save may happen later on a background thread, see {@link #flushAddressBook()}.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Blocks until every changed Address Book handed to {@link #handleAddressBookChangedEvent} is saved.
+     */
+    void flushAddressBook();
+
+    /**
+     * Saves every changed Address Book handed to {@link #handleAddressBookChangedEvent} and stops saving in the
+     * background. The Address Books changed afterwards are saved right away.
+     * Also closes the Address Book storage, logging any problem doing so.
+     */
+    @Override
+    void close();
 }
@@ -11,6 +11,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -22,6 +24,8 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    // saves the changed address books in the background, or null if they are saved as they change
+    private AsyncAddressBookSaver addressBookSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
@@ -30,6 +34,18 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that saves the changed address books on a background thread.
+     * A burst of changes less than {@code saveDelay} milliseconds apart is saved once, but no change waits
+     * longer than {@code maxSaveDelay} milliseconds.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelay, long maxSaveDelay) {
+        this(addressBookStorage, userPrefsStorage);
+        this.addressBookSaver = new AsyncAddressBookSaver(addressBookStorage, saveDelay, maxSaveDelay,
+            e -> raise(new DataSavingExceptionEvent(e)));
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -77,13 +93,59 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+
+    @Override
+    public void flushAddressBook() {
+        if (addressBookSaver != null) {
+            addressBookSaver.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (addressBookSaver != null) {
+            addressBookSaver.close();
+            addressBookSaver = null;
+        }
+        try {
+            addressBookStorage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close AddressBook storage " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the number of changed address books waiting to be saved in the background.
+     */
+    public long getAddressBookSaveQueueDepth() {
+        return addressBookSaver == null ? 0 : addressBookSaver.getQueueDepth();
+    }
+
+    /**
+     * Returns the time the last background save of the address book took, in milliseconds.
+     */
+    public long getLastAddressBookSaveLatency() {
+        return addressBookSaver == null ? 0 : addressBookSaver.getLastSaveLatency();
+    }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        if (addressBookSaver != null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queueing save to file"));
+            addressBookSaver.submit(event.data, event.delta);
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
-            saveAddressBook(event.data);
+            saveAddressBookChanges(event.data, event.delta);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
@@ -22,6 +22,14 @@ public class XmlAdaptedAliasToken {
     public XmlAdaptedAliasToken() {
     }
 
+    /**
+     * Constructs an XmlAdaptedAliasToken with the given field values, as read from XML.
+     */
+    XmlAdaptedAliasToken(String keyword, String representation) {
+        this.keyword = keyword;
+        this.representation = representation;
+    }
+
     /**
      * Converts a given AliasToken into this class for JAXB use.
      *
@@ -32,6 +40,14 @@ public class XmlAdaptedAliasToken {
         representation = source.getRepresentation().representation;
     }
 
+    String getKeyword() {
+        return keyword;
+    }
+
+    String getRepresentation() {
+        return representation;
+    }
+
     /**
      * Converts this jaxb-friendly adapted AliasToken object into the model's AliasToken object.
      *
@@ -50,6 +50,21 @@ public class XmlAdaptedPerson {
     public XmlAdaptedPerson() {
     }
 
+    /**
+     * Constructs an XmlAdaptedPerson with the given field values, as read from XML.
+     */
+    XmlAdaptedPerson(String name, String phone, String email, String address, String birthday, boolean isPrivate,
+                     String remark, boolean isPinned, List<XmlAdaptedTag> tagged) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.birthday = birthday;
+        this.isPrivate = isPrivate;
+        this.remark = remark;
+        this.isPinned = isPinned;
+        this.tagged = tagged;
+    }
 
     /**
      * Converts a given Person into this class for JAXB use.
@@ -71,6 +86,42 @@ public class XmlAdaptedPerson {
         isPinned = source.isPinned();
     }
 
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    String getBirthday() {
+        return birthday;
+    }
+
+    boolean isPrivate() {
+        return isPrivate;
+    }
+
+    String getRemark() {
+        return remark;
+    }
+
+    boolean isPinned() {
+        return isPinned;
+    }
+
+    List<XmlAdaptedTag> getTagged() {
+        return tagged;
+    }
+
     //@@author aziziazfar
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
@@ -19,6 +19,13 @@ public class XmlAdaptedTag {
      */
     public XmlAdaptedTag() {}
 
+    /**
+     * Constructs an XmlAdaptedTag with the given tag name, as read from XML.
+     */
+    XmlAdaptedTag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
      * Converts a given Tag into this class for JAXB use.
      *
@@ -28,6 +35,10 @@ public class XmlAdaptedTag {
         tagName = source.tagName;
     }
 
+    String getTagName() {
+        return tagName;
+    }
+
     /**
      * Converts this jaxb-friendly adapted tag object into the model's Tag object.
      *
@@ -34,6 +34,18 @@ public class XmlAdaptedTask {
     public XmlAdaptedTask() {
     }
 
+    /**
+     * Constructs an XmlAdaptedTask with the given field values, as read from XML.
+     */
+    XmlAdaptedTask(String header, String isCompleted, String lastUpdatedTime, String startDateTime,
+                   String endDateTime) {
+        this.header = header;
+        this.isCompleted = isCompleted;
+        this.lastUpdatedTime = lastUpdatedTime;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
 
     /**
      * Converts a given Task into this class for JAXB use.
@@ -54,6 +66,26 @@ public class XmlAdaptedTask {
         }
     }
 
+    String getHeader() {
+        return header;
+    }
+
+    String getIsCompleted() {
+        return isCompleted;
+    }
+
+    String getLastUpdatedTime() {
+        return lastUpdatedTime;
+    }
+
+    String getStartDateTime() {
+        return startDateTime;
+    }
+
+    String getEndDateTime() {
+        return endDateTime;
+    }
+
     /**
      * Converts this jaxb-friendly adapted task object into the model's Task object.
      *
@@ -65,12 +97,6 @@ public class XmlAdaptedTask {
 
         Task newTask = new Task(header);
 
-        if (lastUpdatedTime != null) {
-            newTask.setLastUpdatedTime(LocalDateTime.parse(lastUpdatedTime, formatter));
-        } else {
-            newTask.setLastUpdatedTimeToCurrent();
-        }
-
         if (setAsCompleted) {
             newTask.setComplete();
         }
@@ -83,6 +109,13 @@ public class XmlAdaptedTask {
             newTask.setEndDateTime(Optional.ofNullable(LocalDateTime.parse(endDateTime, formatter)));
         }
 
+        // set last, as the setters above update the last updated time to the current time
+        if (lastUpdatedTime != null) {
+            newTask.setLastUpdatedTime(LocalDateTime.parse(lastUpdatedTime, formatter));
+        } else {
+            newTask.setLastUpdatedTimeToCurrent();
+        }
+
         return newTask;
     }
 }
@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Reads an address book in the format of {@code XmlSerializableAddressBook} one element at a time,
+ * converting each element into a model object as soon as it is read.
+ * <p>
+ * Unlike unmarshalling with JAXB, the adapted objects of the whole address book are never held at the same time.
+ * Unknown elements are skipped, as JAXB does.
+ */
+class XmlAddressBookReader {
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final XMLStreamReader reader;
+
+    private final ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList();
+    private final ObservableList<Tag> tags = FXCollections.observableArrayList();
+    private final ObservableList<ReadOnlyAliasToken> aliasTokens = FXCollections.observableArrayList();
+    private final ObservableList<ReadOnlyTask> tasks = FXCollections.observableArrayList();
+
+    private XmlAddressBookReader(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the address book in {@code in}.
+     *
+     * @throws DataConversionException if {@code in} is not an address book in the xml format.
+     */
+    static ReadOnlyAddressBook read(InputStream in) throws DataConversionException, IOException {
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(new BufferedInputStream(in));
+            try {
+                return new XmlAddressBookReader(reader).readAddressBook();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException | DateTimeParseException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads the {@code addressbook} root element and returns its contents.
+     */
+    private ReadOnlyAddressBook readAddressBook() throws XMLStreamException, IllegalValueException {
+        reader.nextTag();
+        if (!XmlAddressBookWriter.ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new IllegalValueException("Unexpected root element " + reader.getLocalName());
+        }
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case XmlAddressBookWriter.PERSON_ELEMENT:
+                persons.add(readPerson().toModelType());
+                break;
+            case XmlAddressBookWriter.TAG_ELEMENT:
+                tags.add(new XmlAdaptedTag(reader.getElementText()).toModelType());
+                break;
+            case XmlAddressBookWriter.ALIAS_TOKEN_ELEMENT:
+                aliasTokens.add(readAliasToken().toModelType());
+                break;
+            case XmlAddressBookWriter.TASK_ELEMENT:
+                tasks.add(readTask().toModelType());
+                break;
+            default:
+                skipElement();
+            }
+        }
+        return new LoadedAddressBook(persons, tags, aliasTokens, tasks);
+    }
+
+    /**
+     * Reads the {@code persons} element the reader is at, leaving the reader at its end tag.
+     */
+    private XmlAdaptedPerson readPerson() throws XMLStreamException, IllegalValueException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String birthday = null;
+        boolean isPrivate = false;
+        String remark = null;
+        boolean isPinned = false;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "address":
+                address = reader.getElementText();
+                break;
+            case "birthday":
+                birthday = reader.getElementText();
+                break;
+            case "isPrivate":
+                isPrivate = parseBoolean(reader.getElementText());
+                break;
+            case "remark":
+                remark = reader.getElementText();
+                break;
+            case "isPinned":
+                isPinned = parseBoolean(reader.getElementText());
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement();
+            }
+        }
+        requireElement(name, "name");
+        requireElement(phone, "phone");
+        requireElement(email, "email");
+        requireElement(address, "address");
+        requireElement(birthday, "birthday");
+        requireElement(remark, "remark");
+        return new XmlAdaptedPerson(name, phone, email, address, birthday, isPrivate, remark, isPinned, tagged);
+    }
+
+    /**
+     * Reads the {@code aliasTokens} element the reader is at, leaving the reader at its end tag.
+     */
+    private XmlAdaptedAliasToken readAliasToken() throws XMLStreamException, IllegalValueException {
+        String keyword = null;
+        String representation = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "keyword":
+                keyword = reader.getElementText();
+                break;
+            case "representation":
+                representation = reader.getElementText();
+                break;
+            default:
+                skipElement();
+            }
+        }
+        requireElement(keyword, "keyword");
+        requireElement(representation, "representation");
+        return new XmlAdaptedAliasToken(keyword, representation);
+    }
+
+    /**
+     * Reads the {@code tasks} element the reader is at, leaving the reader at its end tag.
+     */
+    private XmlAdaptedTask readTask() throws XMLStreamException, IllegalValueException {
+        String header = null;
+        String isCompleted = null;
+        String lastUpdatedTime = null;
+        String startDateTime = null;
+        String endDateTime = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "header":
+                header = reader.getElementText();
+                break;
+            case "isCompleted":
+                isCompleted = reader.getElementText();
+                break;
+            case "lastUpdatedTime":
+                lastUpdatedTime = reader.getElementText();
+                break;
+            case "startDateTime":
+                startDateTime = reader.getElementText();
+                break;
+            case "endDateTime":
+                endDateTime = reader.getElementText();
+                break;
+            default:
+                skipElement();
+            }
+        }
+        requireElement(header, "header");
+        return new XmlAdaptedTask(header, isCompleted, lastUpdatedTime, startDateTime, endDateTime);
+    }
+
+    /**
+     * Skips the element the reader is at, with everything in it, leaving the reader at its end tag.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static void requireElement(String value, String elementName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException("Missing element " + elementName);
+        }
+    }
+
+    /**
+     * Parses {@code text} as an {@code xs:boolean}, the way JAXB does.
+     */
+    private static boolean parseBoolean(String text) {
+        String trimmed = text.trim();
+        return trimmed.equals("true") || trimmed.equals("1");
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,6 +10,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -18,18 +18,34 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
+    /** The name of this storage format in {@code UserPrefs}. */
+    public static final String STORAGE_FORMAT = "xml";
+
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private String filePath;
+    private final Compression compression;
 
     public XmlAddressBookStorage(String filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    /**
+     * @param compression the compression the file is written with. Files are read whatever their compression.
+     */
+    public XmlAddressBookStorage(String filePath, Compression compression) {
         this.filePath = filePath;
+        this.compression = compression;
     }
 
     public String getAddressBookFilePath() {
         return filePath;
     }
 
+    public Compression getCompression() {
+        return compression;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
         return readAddressBook(filePath);
@@ -41,7 +57,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
         File addressBookFile = new File(filePath);
@@ -51,7 +67,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadAddressBookFromFile(new File(filePath));
 
         return Optional.of(addressBookOptional);
     }
@@ -71,7 +87,16 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        XmlFileStorage.saveAddressBookToFile(file, addressBook, compression);
+    }
+
+    /**
+     * Saves the whole {@code addressBook}, as an xml file cannot be updated with the changes alone.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+            throws IOException {
+        saveAddressBook(addressBook);
     }
 
 }
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.ReadOnlyTask;
+
+/**
+ * Writes an address book in the format of {@code XmlSerializableAddressBook} one element at a time,
+ * converting each model object into its adapted object only while it is written.
+ * <p>
+ * The output is byte for byte what JAXB writes for the same address book with formatted output,
+ * so files written by either can be read by the other and compared.
+ */
+class XmlAddressBookWriter {
+
+    static final String ROOT_ELEMENT = "addressbook";
+    static final String PERSON_ELEMENT = "persons";
+    static final String TAG_ELEMENT = "tags";
+    static final String ALIAS_TOKEN_ELEMENT = "aliasTokens";
+    static final String TASK_ELEMENT = "tasks";
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+
+    private final Writer writer;
+
+    private XmlAddressBookWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        new XmlAddressBookWriter(writer).writeAddressBook(addressBook);
+        writer.flush();
+    }
+
+    /**
+     * Writes the {@code addressbook} root element with the contents of {@code addressBook}.
+     */
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        writer.write(XML_DECLARATION);
+        writer.write('\n');
+        if (addressBook.getPersonList().isEmpty() && addressBook.getTagList().isEmpty()
+                && addressBook.getAliasTokenList().isEmpty() && addressBook.getTaskList().isEmpty()) {
+            writer.write("<" + ROOT_ELEMENT + "/>\n");
+            return;
+        }
+
+        writer.write("<" + ROOT_ELEMENT + ">\n");
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            writePerson(new XmlAdaptedPerson(person));
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            writeTextElement(1, TAG_ELEMENT, new XmlAdaptedTag(tag).getTagName());
+        }
+        for (ReadOnlyAliasToken aliasToken : addressBook.getAliasTokenList()) {
+            writeAliasToken(new XmlAdaptedAliasToken(aliasToken));
+        }
+        for (ReadOnlyTask task : addressBook.getTaskList()) {
+            writeTask(new XmlAdaptedTask(task));
+        }
+        writer.write("</" + ROOT_ELEMENT + ">\n");
+    }
+
+    /**
+     * Writes a {@code persons} element with the contents of {@code person}.
+     */
+    private void writePerson(XmlAdaptedPerson person) throws IOException {
+        writeStartTag(PERSON_ELEMENT);
+        writeTextElement(2, "name", person.getName());
+        writeTextElement(2, "phone", person.getPhone());
+        writeTextElement(2, "email", person.getEmail());
+        writeTextElement(2, "address", person.getAddress());
+        writeTextElement(2, "birthday", person.getBirthday());
+        writeTextElement(2, "isPrivate", Boolean.toString(person.isPrivate()));
+        writeTextElement(2, "remark", person.getRemark());
+        writeTextElement(2, "isPinned", Boolean.toString(person.isPinned()));
+        for (XmlAdaptedTag tag : person.getTagged()) {
+            writeTextElement(2, "tagged", tag.getTagName());
+        }
+        writeEndTag(PERSON_ELEMENT);
+    }
+
+    /**
+     * Writes an {@code aliasTokens} element with the contents of {@code aliasToken}.
+     */
+    private void writeAliasToken(XmlAdaptedAliasToken aliasToken) throws IOException {
+        writeStartTag(ALIAS_TOKEN_ELEMENT);
+        writeTextElement(2, "keyword", aliasToken.getKeyword());
+        writeTextElement(2, "representation", aliasToken.getRepresentation());
+        writeEndTag(ALIAS_TOKEN_ELEMENT);
+    }
+
+    /**
+     * Writes a {@code tasks} element with the contents of {@code task}, leaving out the times it does not have.
+     */
+    private void writeTask(XmlAdaptedTask task) throws IOException {
+        writeStartTag(TASK_ELEMENT);
+        writeTextElement(2, "header", task.getHeader());
+        writeTextElement(2, "isCompleted", task.getIsCompleted());
+        writeTextElement(2, "lastUpdatedTime", task.getLastUpdatedTime());
+        writeTextElement(2, "startDateTime", task.getStartDateTime());
+        writeTextElement(2, "endDateTime", task.getEndDateTime());
+        writeEndTag(TASK_ELEMENT);
+    }
+
+    private void writeStartTag(String elementName) throws IOException {
+        writer.write(INDENT + "<" + elementName + ">\n");
+    }
+
+    private void writeEndTag(String elementName) throws IOException {
+        writer.write(INDENT + "</" + elementName + ">\n");
+    }
+
+    /**
+     * Writes an element with {@code text} as its only content at the given depth, or nothing if {@code text} is null.
+     */
+    private void writeTextElement(int depth, String elementName, String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < depth; i++) {
+            writer.write(INDENT);
+        }
+        writer.write("<" + elementName + ">");
+        writeEscaped(text);
+        writer.write("</" + elementName + ">\n");
+    }
+
+    /**
+     * Writes {@code text} with the same characters escaped as by JAXB.
+     */
+    private void writeEscaped(String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String escaped;
+            switch (text.charAt(i)) {
+            case '&':
+                escaped = "&amp;";
+                break;
+            case '<':
+                escaped = "&lt;";
+                break;
+            case '>':
+                escaped = "&gt;";
+                break;
+            case '\r':
+                escaped = "&#13;";
+                break;
+            default:
+                continue;
+            }
+            writer.write(text, start, i - start);
+            writer.write(escaped);
+            start = i + 1;
+        }
+        writer.write(text, start, text.length() - start);
+    }
+}
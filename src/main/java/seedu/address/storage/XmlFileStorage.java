@@ -1,12 +1,19 @@
 package seedu.address.storage;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Stores addressbook data in an XML file
@@ -36,4 +43,42 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given address book to the specified file, streaming it out one element at a time.
+     * The file is written in the same format as by {@link #saveDataToFile(File, XmlSerializableAddressBook)}.
+     */
+    public static void saveAddressBookToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBookToFile(file, addressBook, Compression.NONE);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBookToFile(File, ReadOnlyAddressBook)}, but compresses the file with
+     * {@code compression}.
+     */
+    public static void saveAddressBookToFile(File file, ReadOnlyAddressBook addressBook, Compression compression)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = compression.compress(new FileOutputStream(file))) {
+            XmlAddressBookWriter.write(addressBook, out);
+        }
+    }
+
+    /**
+     * Returns the address book in the file, streaming it in one element at a time.
+     * The file is decompressed first if it was compressed.
+     */
+    public static ReadOnlyAddressBook loadAddressBookFromFile(File file) throws DataConversionException,
+                                                                              IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = Compression.decompress(new FileInputStream(file))) {
+            return XmlAddressBookReader.read(in);
+        }
+    }
+
 }
@@ -63,8 +63,8 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
             try {
                 return p.toModelType();
             } catch (IllegalValueException e) {
-                logger.warning("Failed to convert XmlAdaptedPerson to Person or add it to PersonList: ");
-                e.printStackTrace();
+                logger.warning("Failed to convert XmlAdaptedPerson to Person or add it to PersonList: "
+                        + e.getMessage());
                 return null;
             }
         }).collect(Collectors.toCollection(FXCollections::observableArrayList));
@@ -77,8 +77,7 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
             try {
                 return t.toModelType();
             } catch (IllegalValueException e) {
-                logger.warning("Failed to convert XmlAdaptedTag to Tag or add it to TagList: ");
-                e.printStackTrace();
+                logger.warning("Failed to convert XmlAdaptedTag to Tag or add it to TagList: " + e.getMessage());
                 return null;
             }
         }).collect(Collectors.toCollection(FXCollections::observableArrayList));
@@ -93,8 +92,7 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
                 return a.toModelType();
             } catch (IllegalValueException e) {
                 logger.warning("Failed to convert XmlAdaptedAliasToken to AliasToken or "
-                        + "add it to AliasTokenList: ");
-                e.printStackTrace();
+                        + "add it to AliasTokenList: " + e.getMessage());
                 return null;
             }
         }).collect(Collectors.toCollection(FXCollections::observableArrayList));
@@ -107,9 +105,8 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
             try {
                 return t.toModelType();
             } catch (IllegalValueException e) {
-                logger.warning("Failed to convert XmlAdaptedTask to Task or"
-                        + "add it to TaskList: ");
-                e.printStackTrace();
+                logger.warning("Failed to convert XmlAdaptedTask to Task or "
+                        + "add it to TaskList: " + e.getMessage());
                 return null;
             }
         }).collect(Collectors.toCollection(FXCollections::observableArrayList));
@@ -205,7 +205,7 @@ public class MainWindow extends UiPart<Region> {
      */
     void fillInnerParts() {
 
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
+        taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic.getTaskTimeIndex());
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         aliasListPanel = new AliasListPanel(logic.getFilteredAliasTokenList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
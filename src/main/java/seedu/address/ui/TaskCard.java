@@ -36,7 +36,13 @@ public class TaskCard extends UiPart<Region> {
     private static final String UPCOMING_STYLE = "-fx-background-color: rgba(101,181,122,0.8)";
     private static final String OTHER_STYLE = "-fx-background-color: rgba(42,47,79,0.51)";
 
+    /**
+     * How the time of a task relates to the current time, which decides the colour of its card.
+     */
+    public enum TimeStatus { OVERDUE, UPCOMING, OTHER }
+
     private final ReadOnlyTask task;
+    private final TimeStatus timeStatus;
 
     @FXML
     private HBox cardPane;
@@ -47,9 +53,10 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private VBox taskVbox;
 
-    public TaskCard(ReadOnlyTask task, int displayedIndex) {
+    public TaskCard(ReadOnlyTask task, int displayedIndex, TimeStatus timeStatus) {
         super(FXML);
         this.task = task;
+        this.timeStatus = timeStatus;
         id.setText(displayedIndex + ". ");
         initTimeStatus();
         bindListeners(task);
@@ -72,11 +79,14 @@ public class TaskCard extends UiPart<Region> {
         Label time = new Label();
         time.setId("time");
 
-        if (task.isOverdue()) {
+        switch (timeStatus) {
+        case OVERDUE:
             cardPane.setStyle(OVERDUE_STYLE);
-        } else if (task.isUpcoming()) {
+            break;
+        case UPCOMING:
             cardPane.setStyle(UPCOMING_STYLE);
-        } else {
+            break;
+        default:
             cardPane.setStyle(OTHER_STYLE);
         }
 
@@ -126,7 +136,7 @@ public class TaskCard extends UiPart<Region> {
 
         StringBuilder timeStringBuilder = new StringBuilder();
 
-        if (task.isOverdue()) {
+        if (timeStatus == TimeStatus.OVERDUE) {
             timeStringBuilder.append(OVERDUE_PREFIX);
         }
 
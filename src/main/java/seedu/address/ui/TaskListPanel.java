@@ -1,5 +1,9 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.fxmisc.easybind.EasyBind;
@@ -7,6 +11,7 @@ import org.fxmisc.easybind.EasyBind;
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -15,6 +20,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.JumpToNewTaskRequestEvent;
 import seedu.address.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.TaskTimeIndex;
 
 //@@author deep4k
 /**
@@ -24,23 +30,71 @@ public class TaskListPanel extends UiPart<Region> {
     private static final String FXML = "TaskListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
+    private final TaskTimeIndex timeIndex;
+    private final Set<ReadOnlyTask> overdueTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ReadOnlyTask> upcomingTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+
     @javafx.fxml.FXML
     private ListView<TaskCard> taskListView;
 
-    public TaskListPanel(ObservableList<ReadOnlyTask> taskList) {
+    public TaskListPanel(ObservableList<ReadOnlyTask> taskList, TaskTimeIndex timeIndex) {
         super(FXML);
+        this.timeIndex = timeIndex;
         setConnections(taskList);
         registerAsAnEventHandler(this);
     }
 
     private void setConnections(ObservableList<ReadOnlyTask> taskList) {
+        // registered before the cards are mapped, so that the cards of a change see the refreshed statuses
+        refreshTimeStatuses();
+        taskList.addListener(this::updateTimeStatuses);
         ObservableList<TaskCard> mappedList = EasyBind.map(
-                taskList, (task) -> new TaskCard(task, taskList.indexOf(task) + 1));
+                taskList, (task) -> new TaskCard(task, taskList.indexOf(task) + 1, getTimeStatus(task)));
         taskListView.setItems(mappedList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
 
+    /**
+     * Looks up the overdue and upcoming tasks in the time index, once for all the initial cards.
+     */
+    private void refreshTimeStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        overdueTasks.clear();
+        overdueTasks.addAll(timeIndex.getOverdueTasks(now));
+        upcomingTasks.clear();
+        upcomingTasks.addAll(timeIndex.getUpcomingTasks(now));
+    }
+
+    /**
+     * Updates the overdue and upcoming tasks with only the tasks that {@code change} added or removed.
+     */
+    private void updateTimeStatuses(ListChangeListener.Change<? extends ReadOnlyTask> change) {
+        while (change.next()) {
+            for (ReadOnlyTask removed : change.getRemoved()) {
+                overdueTasks.remove(removed);
+                upcomingTasks.remove(removed);
+            }
+            for (ReadOnlyTask added : change.getAddedSubList()) {
+                if (added.isOverdue()) {
+                    overdueTasks.add(added);
+                } else if (added.isUpcoming()) {
+                    upcomingTasks.add(added);
+                }
+            }
+        }
+    }
+
+    private TaskCard.TimeStatus getTimeStatus(ReadOnlyTask task) {
+        if (overdueTasks.contains(task)) {
+            return TaskCard.TimeStatus.OVERDUE;
+        } else if (upcomingTasks.contains(task)) {
+            return TaskCard.TimeStatus.UPCOMING;
+        } else {
+            return TaskCard.TimeStatus.OTHER;
+        }
+    }
+
     private void setEventHandlerForSelectionChangeEvent() {
         taskListView.getSelectionModel().selectedItemProperty()
                 .addListener((observable, oldValue, newValue) -> {
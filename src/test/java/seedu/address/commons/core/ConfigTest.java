@@ -16,7 +16,11 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Bluebird\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Undo history limit : 100\n"
+                + "Undo history budget (bytes) : 8388608\n"
+                + "Save delay (ms) : 300\n"
+                + "Max save delay (ms) : 2000";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
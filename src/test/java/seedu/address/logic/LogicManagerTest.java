@@ -1,30 +1,61 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_CHILD_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DisableParentModeCommand;
+import seedu.address.logic.commands.EnablePersonCommand;
+import seedu.address.logic.commands.EnableTaskCommand;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ParentModeCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.person.ListAliasCommand;
 import seedu.address.logic.commands.person.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private Model model = new ModelManager();
-    private Logic logic = new LogicManager(model);
+    private UndoRedoStack undoRedoStack = new UndoRedoStack();
+    private Logic logic = new LogicManager(model, undoRedoStack);
 
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
@@ -49,6 +80,92 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeBatch_invalidLines_throwsParseExceptionListingEachLine() throws Exception {
+        List<String> commandTexts = Arrays.asList(PersonUtil.getAddCommand(AMY), "", "uicfhmowqewca", "undo");
+        String expectedMessage = String.format(BatchCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_UNKNOWN_CHILD_COMMAND)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_ERROR, 4, BatchCommand.MESSAGE_NOT_IN_BATCH);
+
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(expectedMessage);
+        try {
+            logic.executeBatch(commandTexts);
+        } finally {
+            assertEquals(new AddressBook(), model.getAddressBook());
+            assertEquals(0, undoRedoStack.getUndoCount());
+        }
+    }
+
+    @Test
+    public void executeBatch_exitAndModeCommands_throwsParseException() throws Exception {
+        // in parent mode, so that all the mode commands are known
+        logic.execute(ParentModeCommand.COMMAND_WORD);
+        List<String> commandTexts = Arrays.asList(ExitCommand.COMMAND_WORD, EnableTaskCommand.COMMAND_WORD,
+                EnablePersonCommand.COMMAND_WORD, ParentModeCommand.COMMAND_WORD,
+                DisableParentModeCommand.COMMAND_WORD, ListAliasCommand.COMMAND_WORD);
+        List<String> expectedErrors = new ArrayList<>();
+        for (int i = 1; i <= commandTexts.size(); i++) {
+            expectedErrors.add(String.format(BatchCommand.MESSAGE_LINE_ERROR, i, BatchCommand.MESSAGE_NOT_IN_BATCH));
+        }
+
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.join("\n", expectedErrors));
+        try {
+            logic.executeBatch(commandTexts);
+        } finally {
+            assertEquals(0, undoRedoStack.getUndoCount());
+        }
+    }
+
+    @Test
+    public void executeBatch_failingCommand_earlierChangesReverted() throws Exception {
+        List<String> commandTexts = Arrays.asList(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB),
+                PersonUtil.getAddCommand(AMY));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_BATCH_FAILED,
+                String.format(BatchCommand.MESSAGE_LINE_ERROR, 3, AddCommand.MESSAGE_DUPLICATE_PERSON));
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(expectedMessage);
+        try {
+            logic.executeBatch(commandTexts);
+        } finally {
+            assertEquals(new AddressBook(), model.getAddressBook());
+            assertEquals(0, undoRedoStack.getUndoCount());
+            // the reverted changes are announced together with the changes, so no partial book is saved
+            assertEquals(1, eventsCollectorRule.eventsCollector.getSize(AddressBookChangedEvent.class));
+        }
+    }
+
+    @Test
+    public void executeBatch_validCommands_savedOnceAndUndoneTogether() throws Exception {
+        List<String> commandTexts = Arrays.asList(PersonUtil.getAddCommand(AMY), " ", PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = logic.executeBatch(commandTexts);
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.feedbackToUser);
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(), model.getAddressBook());
+        // a single save with the changes of both commands
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertEquals(2, ((AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).delta.size());
+        assertEquals(1, undoRedoStack.getUndoCount());
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).feedbackToUser);
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_runFile_commandsExecutedAsBatch() throws Exception {
+        File file = testFolder.newFile("commands.txt");
+        Files.write(file.toPath(), Arrays.asList(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB)),
+                StandardCharsets.UTF_8);
+
+        CommandResult result = logic.execute("run " + file.getPath());
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.feedbackToUser);
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(), model.getAddressBook());
+        assertEquals(1, undoRedoStack.getUndoCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -11,7 +11,9 @@ import java.util.Collections;
 import java.util.EmptyStackException;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -20,6 +22,9 @@ import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
 
 public class UndoRedoStackTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private final DummyCommand dummyCommandOne = new DummyCommand();
     private final DummyUndoableCommand dummyUndoableCommandOne = new DummyUndoableCommand();
     private final DummyUndoableCommand dummyUndoableCommandTwo = new DummyUndoableCommand();
@@ -171,6 +176,43 @@ public class UndoRedoStackTest {
         assertFalse(undoRedoStack.equals(differentRedoStack));
     }
 
+    @Test
+    public void push_overEntryLimit_oldestCommandsDropped() {
+        undoRedoStack = new UndoRedoStack(2, UndoRedoStack.DEFAULT_MAX_FOOTPRINT);
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+
+        assertEquals(2, undoRedoStack.getUndoCount());
+        assertEquals(dummyUndoableCommandThree, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_overFootprintBudget_oldestCommandsDroppedLatestKept() {
+        undoRedoStack = new UndoRedoStack(10, 100);
+        undoRedoStack.push(new SizedUndoableCommand(40));
+        undoRedoStack.push(new SizedUndoableCommand(40));
+        assertEquals(2, undoRedoStack.getUndoCount());
+        assertEquals(80, undoRedoStack.getFootprint());
+
+        undoRedoStack.push(new SizedUndoableCommand(40));
+        assertEquals(2, undoRedoStack.getUndoCount());
+        assertEquals(80, undoRedoStack.getFootprint());
+
+        undoRedoStack.push(new SizedUndoableCommand(150));
+        assertEquals(1, undoRedoStack.getUndoCount());
+        assertEquals(150, undoRedoStack.getFootprint());
+    }
+
+    @Test
+    public void constructor_noEntries_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new UndoRedoStack(0, UndoRedoStack.DEFAULT_MAX_FOOTPRINT);
+    }
+
     /**
      * Asserts that the result of {@code undoRedoStack#popUndo()} equals {@code expectedCommand}.
      * Also asserts that the content of the {@code undoRedoStack#undoStack} equals {@code undoElements},
@@ -244,4 +286,20 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    /**
+     * An undoable command that reports a fixed footprint.
+     */
+    class SizedUndoableCommand extends DummyUndoableCommand {
+        private final long footprint;
+
+        SizedUndoableCommand(long footprint) {
+            this.footprint = footprint;
+        }
+
+        @Override
+        public long getFootprint() {
+            return footprint;
+        }
+    }
 }
@@ -8,6 +8,7 @@ import static org.junit.Assert.fail;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -21,16 +22,21 @@ import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.Keyword;
 import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.alias.exceptions.DuplicateTokenKeywordException;
 import seedu.address.model.alias.exceptions.TokenKeywordNotFoundException;
+import seedu.address.model.person.BirthdayIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.ReadOnlyTask;
+import seedu.address.model.task.TaskTimeIndex;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -121,6 +127,32 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public AddressBookDelta beginDelta() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void endDelta(AddressBookDelta delta) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void revertDelta(AddressBookDelta delta) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void sortList(String toSort) {
             fail("This method should not be called.");
@@ -178,6 +210,17 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void findPersons(PersonHasKeywordsPredicate predicate) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public BirthdayIndex getBirthdayIndex() {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void addAliasToken(ReadOnlyAliasToken target) throws DuplicateTokenKeywordException {
             fail("This method should not be called.");
@@ -194,6 +237,12 @@ public class AddCommandTest {
             return 0;
         }
 
+        @Override
+        public Map<Keyword, ReadOnlyAliasToken> getAliasTokenMap() {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ObservableList<ReadOnlyAliasToken> getFilteredAliasTokenList() {
             fail("This method should not be called.");
@@ -238,6 +287,12 @@ public class AddCommandTest {
         public void updateFilteredTaskList(Predicate<ReadOnlyTask> predicate) {
             fail("This method should not be called.");
         }
+
+        @Override
+        public TaskTimeIndex getTaskTimeIndex() {
+            fail("This method should not be called.");
+            return null;
+        }
     }
 
     /**
@@ -253,6 +308,23 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public AddressBookDelta beginDelta() {
+            return new AddressBookDelta();
+        }
+
+        @Override
+        public void endDelta(AddressBookDelta delta) {
+        }
+
+        @Override
+        public void beginBatch() {
+        }
+
+        @Override
+        public void endBatch() {
+        }
     }
 
     /**
@@ -277,6 +349,23 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public AddressBookDelta beginDelta() {
+            return new AddressBookDelta();
+        }
+
+        @Override
+        public void endDelta(AddressBookDelta delta) {
+        }
+
+        @Override
+        public void beginBatch() {
+        }
+
+        @Override
+        public void endBatch() {
+        }
     }
 
 }
@@ -45,6 +45,24 @@ public class UndoableCommandTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void execute_commandFails_changesReverted() {
+        UndoableCommand failingCommand = new DummyCommand(model) {
+            @Override
+            public CommandResult executeUndoableCommand() throws CommandException {
+                super.executeUndoableCommand();
+                throw new CommandException("dummy failure");
+            }
+        };
+
+        try {
+            failingCommand.execute();
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals(expectedModel, model);
+        }
+    }
+
     /**
      * Deletes the first person in the model's filtered list.
      */
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_CHILD_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_PARENT_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.testutil.AliasTokenBuilder.DEFAULT_KEYWORD;
@@ -43,7 +44,10 @@ import seedu.address.logic.commands.person.RemarkCommand;
 import seedu.address.logic.commands.person.SelectCommand;
 import seedu.address.logic.commands.person.SortCommand;
 import seedu.address.logic.commands.person.UnpinCommand;
+import seedu.address.logic.commands.task.ListTaskCommand;
+import seedu.address.logic.commands.task.MarkTaskCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.alias.AliasToken;
 import seedu.address.model.alias.Keyword;
 import seedu.address.model.person.Person;
@@ -225,6 +229,18 @@ public class AddressBookParserTest {
         assertEquals(new UnaliasCommand(new Keyword(DEFAULT_KEYWORD)), command);
     }
 
+    @Test
+    public void parseCommand_aliasAddedToSharedList_expandedWithoutReRegistering() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        AddressBookParser aliasParser = new AddressBookParser(addressBook.getAliasTokenList());
+        addressBook.addAliasToken(new AliasTokenBuilder().withKeyword("sel")
+                .withRepresentation(SelectCommand.COMMAND_WORD).build());
+
+        SelectCommand command = (SelectCommand) aliasParser.parseCommand(
+                "sel " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new SelectCommand(INDEX_FIRST_PERSON), command);
+    }
+
     @Test
     public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
         assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
@@ -250,4 +266,22 @@ public class AddressBookParserTest {
         thrown.expectMessage(MESSAGE_UNKNOWN_PARENT_COMMAND);
         parser.parseCommand("unknownCommand");
     }
+
+    @Test
+    public void parseCommand_modeToggled_dispatchedForNewMode() throws Exception {
+        parser.enableTaskToggle();
+        assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListTaskCommand);
+        assertTrue(parser.parseCommand(MarkTaskCommand.COMMAND_WORD + " 1") instanceof MarkTaskCommand);
+
+        parser.enablePersonToggle();
+        assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_parentOnlyCommandInChildMode_throwsParseException() throws Exception {
+        parser.disableParentToggle();
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_CHILD_COMMAND);
+        parser.parseCommand(ClearCommand.COMMAND_WORD);
+    }
 }
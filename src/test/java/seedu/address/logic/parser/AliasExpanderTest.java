@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.testutil.AliasTokenBuilder;
+
+public class AliasExpanderTest {
+
+    private final ObservableList<ReadOnlyAliasToken> aliasTokens = FXCollections.observableArrayList();
+    private final AliasExpander expander = new AliasExpander(aliasTokens);
+
+    @Test
+    public void expandArguments_noAliases_leadingSeparatorsReplacedBySpace() {
+        assertEquals(" n/John  p/123", expander.expandArguments(" /  n/John  p/123"));
+        assertEquals(" ", expander.expandArguments(""));
+    }
+
+    @Test
+    public void expandArguments_aliases_wordsReplacedAndSeparatorsKept() throws Exception {
+        aliasTokens.add(alias("ph", "Public Holiday"));
+
+        assertEquals(" n/Public Holiday  t/ph2", expander.expandArguments("  n/ph  t/ph2"));
+    }
+
+    @Test
+    public void expandWord_nestedAliases_fullyExpanded() throws Exception {
+        aliasTokens.addAll(Arrays.asList(alias("sl", "sel"), alias("sel", "select"), alias("hols", "ph ph/sl")));
+        aliasTokens.add(alias("ph", "Public Holiday"));
+
+        assertEquals("select", expander.expandWord("sl"));
+        assertEquals(" Public Holiday Public Holiday/select", expander.expandArguments("hols"));
+        assertEquals("list", expander.expandWord("list"));
+    }
+
+    @Test
+    public void expandWord_cyclicAliases_expandedOneLevel() throws Exception {
+        aliasTokens.addAll(Arrays.asList(alias("aa", "bb"), alias("bb", "cc aa"), alias("cc", "select"),
+                alias("me", "me too"), alias("dd", "aa")));
+
+        assertEquals("bb", expander.expandWord("aa"));
+        assertEquals("cc aa", expander.expandWord("bb"));
+        assertEquals("me too", expander.expandWord("me"));
+        assertEquals("bb", expander.expandWord("dd"));
+        assertEquals("select", expander.expandWord("cc"));
+    }
+
+    @Test
+    public void expandWord_aliasesChanged_followsList() throws Exception {
+        ReadOnlyAliasToken sel = alias("sel", "select");
+        aliasTokens.addAll(Arrays.asList(alias("sl", "sel"), sel));
+        assertEquals("select", expander.expandWord("sl"));
+
+        aliasTokens.remove(sel);
+        assertFalse(expander.isAlias("sel"));
+        assertEquals("sel", expander.expandWord("sl"));
+
+        // as when undo replaces the whole list
+        aliasTokens.setAll(alias("sel", "list"), alias("sl", "sel"));
+        assertTrue(expander.isAlias("sel"));
+        assertEquals("list", expander.expandWord("sl"));
+    }
+
+    @Test
+    public void expandWord_aliasChangedInChain_dependentExpansionsUpdated() throws Exception {
+        ReadOnlyAliasToken cc = alias("cc", "select");
+        aliasTokens.addAll(Arrays.asList(alias("aa", "bb"), alias("bb", "cc"), cc, alias("dd", "list")));
+        assertEquals("select", expander.expandWord("aa"));
+        assertEquals("list", expander.expandWord("dd"));
+
+        // closing a cycle through the chain
+        aliasTokens.remove(cc);
+        aliasTokens.add(alias("cc", "aa"));
+        assertEquals("bb", expander.expandWord("aa"));
+        assertEquals("aa", expander.expandWord("cc"));
+        assertEquals("list", expander.expandWord("dd"));
+
+        // adding an alias for a word already used in a representation
+        aliasTokens.add(alias("list", "find"));
+        assertEquals("find", expander.expandWord("dd"));
+    }
+
+    @Test
+    public void expandWord_longChains_expandedWithoutOverflow() throws Exception {
+        int length = 20000;
+        List<ReadOnlyAliasToken> chain = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            chain.add(alias("al" + i, "al" + (i + 1)));
+        }
+        aliasTokens.addAll(chain);
+        assertEquals("al" + length, expander.expandWord("al0"));
+
+        // closing the chain into one long cycle
+        aliasTokens.add(alias("al" + length, "al0"));
+        assertEquals("al1", expander.expandWord("al0"));
+    }
+
+    private static ReadOnlyAliasToken alias(String keyword, String representation) throws Exception {
+        return new AliasTokenBuilder().withKeyword(keyword).withRepresentation(representation).build();
+    }
+}
@@ -136,6 +136,29 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("SomePreambleString p/pSlash value");
+        String[] expectedValues = new String[50];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" -t\t").append(expectedValues[i]).append(' ');
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, expectedValues);
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixRecognised() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "SomePreambleString -tt dashTt value -t dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertArgumentPresent(argMultimap, dashTt, "dashTt value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
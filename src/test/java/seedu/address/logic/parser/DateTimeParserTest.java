@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.joestelmach.natty.CalendarSource;
+import com.joestelmach.natty.DateGroup;
+
+public class DateTimeParserTest {
+
+    // a Wednesday
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 3, 5, 18, 30, 15, 123000000);
+
+    private static final String[] COMMON_FORMS = {
+        "2025-03-01 14:00", "2025-3-1", "2024-02-29 at 9:05pm", "today", "tomorrow 5pm", "tmr 12am", "yesterday 12pm",
+        "mon", "wed 0:00", "sat", "sun 23:59", "next mon", "next wed 5 pm", "next fri 9am", "next sun", "thurs",
+        "5pm", "5:30am", "14:00"
+    };
+
+    private final DateTimeParser parser = new DateTimeParser();
+
+    @Test
+    public void parseCommonForm_eachDayOfWeek_sameAsNatty() {
+        for (int day = 0; day < 7; day++) {
+            LocalDateTime reference = REFERENCE.plusDays(day);
+            for (String phrase : COMMON_FORMS) {
+                Optional<LocalDateTime> dateTime = DateTimeParser.parseCommonForm(phrase, reference);
+                assertEquals(phrase + " on " + reference.getDayOfWeek(), parseWithNatty(phrase, reference), dateTime);
+            }
+        }
+    }
+
+    @Test
+    public void parseCommonForm_otherPhrases_empty() {
+        for (String phrase : new String[] {"tonight", "2025-02-30", "13pm", "24:00", "10:60", "5", "next week",
+            "tomorrow 5", "17:00 tomorrow", "meeting"}) {
+            assertFalse(phrase, DateTimeParser.parseCommonForm(phrase, REFERENCE).isPresent());
+        }
+    }
+
+    @Test
+    public void parse_phrasesForNatty_sameAsNattyOnEachReference() {
+        LocalDateTime[] references = {REFERENCE, REFERENCE.plusHours(2).plusSeconds(7), REFERENCE.plusDays(1)};
+        for (LocalDateTime reference : references) {
+            for (String phrase : new String[] {"tonight", "in 3 hours", "two days later", "tomorrow morning"}) {
+                assertEquals(phrase + " at " + reference, parseWithNatty(phrase, reference),
+                        parser.parse(phrase, reference));
+            }
+        }
+    }
+
+    @Test
+    public void parse_phrasesNormalised() {
+        assertEquals(Optional.of(LocalDateTime.of(2025, 3, 6, 17, 0)), parser.parse("  Tomorrow \t 5PM ", REFERENCE));
+        assertEquals(Optional.of(LocalDate.of(2025, 3, 5).atTime(LocalTime.of(20, 0))),
+                parser.parse(" TONIGHT", REFERENCE));
+    }
+
+    @Test
+    public void parse_notDateTime_empty() {
+        assertEquals(Optional.empty(), parser.parse("meeting", REFERENCE));
+        assertEquals(Optional.empty(), parser.parse("meeting", REFERENCE));
+        assertEquals(Optional.empty(), parser.parse(" ", REFERENCE));
+    }
+
+    /**
+     * Returns the date-time natty parses {@code phrase} to when it is {@code reference}.
+     */
+    private static Optional<LocalDateTime> parseWithNatty(String phrase, LocalDateTime reference) {
+        CalendarSource.setBaseDate(Date.from(reference.atZone(ZoneId.systemDefault()).toInstant()));
+        try {
+            List<DateGroup> groups = new com.joestelmach.natty.Parser().parse(phrase);
+            return groups.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(LocalDateTime.ofInstant(groups.get(0).getDates().get(0).toInstant(),
+                            ZoneId.systemDefault()));
+        } finally {
+            CalendarSource.setBaseDate(null);
+        }
+    }
+}
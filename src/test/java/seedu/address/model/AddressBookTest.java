@@ -1,7 +1,11 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -17,12 +21,17 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.alias.AliasToken;
+import seedu.address.model.alias.Keyword;
 import seedu.address.model.alias.ReadOnlyAliasToken;
+import seedu.address.model.alias.Representation;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Header;
 import seedu.address.model.task.ReadOnlyTask;
 import seedu.address.model.task.Task;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
@@ -89,6 +98,195 @@ public class AddressBookTest {
         addressBook.getAliasTokenList().remove(0);
     }
 
+    @Test
+    public void addPerson_sharedTag_tagObjectsInterned() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Tag friends = new Tag("friends");
+
+        Tag aliceFriends = getTag(addressBook.getPersonList().get(0), friends);
+        Tag bensonFriends = getTag(addressBook.getPersonList().get(1), friends);
+        assertSame(aliceFriends, bensonFriends);
+        assertEquals(2, addressBook.getTagList().size());
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_tagListUnchanged() throws Exception {
+        addressBook.addPerson(ALICE);
+        try {
+            addressBook.addPerson(new PersonBuilder(ALICE).withTags("colleagues").build());
+        } catch (DuplicatePersonException dpe) {
+            assertFalse(addressBook.getTagList().contains(new Tag("colleagues")));
+            return;
+        }
+        throw new AssertionError("DuplicatePersonException expected");
+    }
+
+    @Test
+    public void removePerson_lastPersonWithTag_tagDropped() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        addressBook.removePerson(BENSON);
+        assertFalse(addressBook.getTagList().contains(new Tag("owesMoney")));
+        assertTrue(addressBook.getTagList().contains(new Tag("friends")));
+    }
+
+    @Test
+    public void updatePerson_tagsReplaced_orphanedTagDropped() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withTags("colleagues").build());
+
+        assertEquals(Collections.singletonList(new Tag("colleagues")), addressBook.getTagList());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        List<Tag> tagsBefore = new ArrayList<>(addressBook.getTagList());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.pinPerson(ALICE);
+        addressBook.removePerson(BENSON);
+        addressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withTags("colleagues").build());
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertFalse(snapshot.getPersonList().get(0).isPinned());
+        assertEquals(tagsBefore, snapshot.getTagList());
+
+        AddressBook restored = new AddressBook(snapshot);
+        restored.addPerson(new PersonBuilder().withName("Carl").build());
+        assertEquals(2, snapshot.getPersonList().size());
+    }
+
+    @Test
+    public void revert_recordedChanges_previousStateRestored() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addAliasToken(new AliasToken(new Keyword("ph"), new Representation("Public Holiday")));
+        addressBook.addTask(new Task(new Header("Lunch")));
+        AddressBook expected = new AddressBook(addressBook);
+
+        AddressBookDelta delta = addressBook.beginDelta();
+        addressBook.removePerson(BENSON);
+        addressBook.pinPerson(ALICE);
+        addressBook.sortList("phone");
+        addressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withTags("colleagues").build());
+        addressBook.addPerson(new PersonBuilder().withName("Zed").build());
+        addressBook.removeAliasToken(new AliasToken(new Keyword("ph"), new Representation("Public Holiday")));
+        addressBook.markTask(new Task(new Header("Lunch")));
+        addressBook.endDelta(delta);
+
+        assertEquals(7, delta.size());
+        assertTrue(delta.getFootprint() > 0);
+        addressBook.revert(delta);
+        assertEquals(expected, addressBook);
+        assertFalse(addressBook.getPersonList().get(0).isPinned());
+    }
+
+    @Test
+    public void recordedChanges_personChangedInPlaceLater_changesUnaffected() throws Exception {
+        List<ReadOnlyPerson> recordedPersons = new ArrayList<>();
+        AddressBookDelta delta = addressBook.beginDelta();
+        addressBook.addPerson(ALICE);
+        addressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withTags("colleagues").build());
+        addressBook.insertPerson(0, BENSON);
+        addressBook.endDelta(delta);
+
+        addressBook.pinPerson(ALICE);
+        addressBook.hidePerson(BENSON);
+        delta.replay(new AddressBookChangeHandlerStub() {
+            @Override
+            public void personAdded(int index, ReadOnlyPerson person) {
+                recordedPersons.add(person);
+            }
+
+            @Override
+            public void personReplaced(ReadOnlyPerson before, ReadOnlyPerson after) {
+                recordedPersons.add(after);
+            }
+        });
+
+        assertEquals(3, recordedPersons.size());
+        for (ReadOnlyPerson person : recordedPersons) {
+            assertFalse(person.isPinned());
+            assertFalse(person.isPrivate());
+        }
+    }
+
+    @Test
+    public void revert_resetData_previousStateRestored() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook expected = new AddressBook(addressBook);
+
+        AddressBookDelta delta = addressBook.beginDelta();
+        addressBook.resetData(new AddressBook());
+        addressBook.endDelta(delta);
+        addressBook.revert(delta);
+
+        assertEquals(expected, addressBook);
+    }
+
+    /**
+     * Returns the Tag object held by {@code person} that is equal to {@code tag}.
+     */
+    private static Tag getTag(ReadOnlyPerson person, Tag tag) {
+        return person.getTags().stream().filter(tag::equals).findFirst().get();
+    }
+
+    /**
+     * An AddressBookChangeHandler that ignores every change.
+     */
+    private static class AddressBookChangeHandlerStub implements AddressBookChangeHandler {
+        @Override
+        public void personAdded(int index, ReadOnlyPerson person) {
+        }
+
+        @Override
+        public void personRemoved(ReadOnlyPerson person) {
+        }
+
+        @Override
+        public void personReplaced(ReadOnlyPerson before, ReadOnlyPerson after) {
+        }
+
+        @Override
+        public void personsSorted(String sortKey) {
+        }
+
+        @Override
+        public void tagDeclared(Tag tag) {
+        }
+
+        @Override
+        public void tagRemoved(Tag tag) {
+        }
+
+        @Override
+        public void aliasTokenAdded(int index, ReadOnlyAliasToken token) {
+        }
+
+        @Override
+        public void aliasTokenRemoved(ReadOnlyAliasToken token) {
+        }
+
+        @Override
+        public void taskAdded(int index, ReadOnlyTask task) {
+        }
+
+        @Override
+        public void taskRemoved(ReadOnlyTask task) {
+        }
+
+        @Override
+        public void taskReplaced(ReadOnlyTask before, ReadOnlyTask after) {
+        }
+
+        @Override
+        public void dataReset() {
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
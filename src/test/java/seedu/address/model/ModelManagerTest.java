@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -12,13 +13,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.PersonHasKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -33,6 +39,30 @@ public class ModelManagerTest {
         modelManager.getFilteredTaskList().remove(0);
     }
 
+    @Test
+    public void endBatch_changesInBatch_raisesSingleEvent() throws Exception {
+        ModelManager modelManager = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.deletePerson(ALICE);
+        modelManager.endBatch();
+        modelManager.deletePerson(BENSON);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        modelManager.endBatch();
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(2, event.delta.size());
+
+        // an empty batch raises no event
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.beginBatch();
+        modelManager.endBatch();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,10 +1,24 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalAliasTokens.AKA;
+import static seedu.address.testutil.TypicalAliasTokens.DIY;
+
+import java.util.Arrays;
+import java.util.Map;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.alias.Keyword;
+import seedu.address.model.alias.ReadOnlyAliasToken;
 import seedu.address.model.alias.UniqueAliasTokenList;
+import seedu.address.model.alias.exceptions.DuplicateTokenKeywordException;
+import seedu.address.model.alias.exceptions.TokenKeywordNotFoundException;
+import seedu.address.testutil.AliasTokenBuilder;
 
 //@@author deep4k
 public class UniqueAliasTokenListTest {
@@ -17,4 +31,43 @@ public class UniqueAliasTokenListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueAliasTokenList.asObservableList().remove(0);
     }
+
+    //@@author
+    @Test
+    public void add_tokenWithExistingKeyword_throwsDuplicateTokenKeywordException() throws Exception {
+        UniqueAliasTokenList uniqueAliasTokenList = new UniqueAliasTokenList();
+        uniqueAliasTokenList.add(AKA);
+        thrown.expect(DuplicateTokenKeywordException.class);
+        uniqueAliasTokenList.add(new AliasTokenBuilder(AKA).withRepresentation("Another Meaning").build());
+    }
+
+    @Test
+    public void remove_tokenWithSameKeywordButDifferentRepresentation_throwsTokenKeywordNotFoundException()
+            throws Exception {
+        UniqueAliasTokenList uniqueAliasTokenList = new UniqueAliasTokenList();
+        uniqueAliasTokenList.add(AKA);
+        thrown.expect(TokenKeywordNotFoundException.class);
+        uniqueAliasTokenList.remove(new AliasTokenBuilder(AKA).withRepresentation("Another Meaning").build());
+    }
+
+    @Test
+    public void asUnmodifiableKeywordMap_afterChanges_reflectsCurrentTokens() throws Exception {
+        UniqueAliasTokenList uniqueAliasTokenList = new UniqueAliasTokenList();
+        Map<Keyword, ReadOnlyAliasToken> keywordMap = uniqueAliasTokenList.asUnmodifiableKeywordMap();
+
+        uniqueAliasTokenList.setAliasTokens(Arrays.asList(AKA, DIY));
+        assertEquals(AKA, keywordMap.get(AKA.getKeyword()));
+
+        uniqueAliasTokenList.remove(AKA);
+        assertFalse(keywordMap.containsKey(AKA.getKeyword()));
+        assertTrue(uniqueAliasTokenList.contains(DIY.getKeyword()));
+        assertEquals(1, uniqueAliasTokenList.asObservableList().size());
+    }
+
+    @Test
+    public void asUnmodifiableKeywordMap_modifyMap_throwsUnsupportedOperationException() {
+        UniqueAliasTokenList uniqueAliasTokenList = new UniqueAliasTokenList();
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueAliasTokenList.asUnmodifiableKeywordMap().put(AKA.getKeyword(), AKA);
+    }
 }
@@ -1,10 +1,24 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 //@@author deep4k
 public class UniquePersonListTest {
@@ -17,4 +31,77 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    //@@author
+    @Test
+    public void contains_equivalentPersonWithDifferentRemark_returnsTrue() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).withRemark("Other remark").build()));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new Person(ALICE));
+    }
+
+    @Test
+    public void remove_personInMiddle_indexesOfLaterPersonsUpdated() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(BENSON);
+
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+        assertEquals(CARL, uniquePersonList.asObservableList().get(1));
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(ALICE);
+    }
+
+    @Test
+    public void setPerson_replacedPerson_indexFollowsReplacement() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+    }
+
+    @Test
+    public void sort_byName_indexesFollowNewOrder() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(CARL, BENSON, ALICE));
+        uniquePersonList.sort("name");
+
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, new Person(ALICE)));
+    }
+
+    @Test
+    public void pin_personNotInList_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.pin(BENSON);
+    }
 }
@@ -1,10 +1,23 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.BREAKFAST;
+import static seedu.address.testutil.TypicalTasks.DINNER;
+import static seedu.address.testutil.TypicalTasks.LUNCH;
+import static seedu.address.testutil.TypicalTasks.WAKE_UP;
+
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.task.Task;
 import seedu.address.model.task.UniqueTaskList;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
 
 //@@author deep4k
 public class UniqueTaskListTest {
@@ -17,4 +30,41 @@ public class UniqueTaskListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueTaskList.asObservableList().remove(0);
     }
+
+    //@@author
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicateTaskException() throws Exception {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTasks(Arrays.asList(LUNCH, DINNER, new Task(LUNCH)));
+    }
+
+    @Test
+    public void setIncompletion_taskInList_replacedAtSamePosition() throws Exception {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.setTasks(Arrays.asList(LUNCH, DINNER, BREAKFAST));
+        uniqueTaskList.setIncompletion(DINNER);
+
+        assertFalse(uniqueTaskList.contains(DINNER));
+        assertFalse(uniqueTaskList.asObservableList().get(1).isCompleted());
+        assertEquals(1, uniqueTaskList.indexOf(uniqueTaskList.asObservableList().get(1)));
+    }
+
+    @Test
+    public void remove_taskInMiddle_indexesOfLaterTasksUpdated() throws Exception {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.setTasks(Arrays.asList(LUNCH, DINNER, WAKE_UP));
+        uniqueTaskList.remove(DINNER);
+
+        assertTrue(uniqueTaskList.contains(WAKE_UP));
+        assertEquals(1, uniqueTaskList.indexOf(WAKE_UP));
+    }
+
+    @Test
+    public void setTask_targetNotInList_throwsTaskNotFoundException() throws Exception {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.add(LUNCH);
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.setTask(DINNER, BREAKFAST);
+    }
 }
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BirthdayIndexTest {
+
+    @Test
+    public void getMonthDaysWithin_nonLeapYear_leapDayCelebratedOnTwentyEighth() {
+        assertEquals(Arrays.asList(MonthDay.of(2, 27), MonthDay.of(2, 28), MonthDay.of(2, 29), MonthDay.of(3, 1)),
+                Arrays.asList(BirthdayIndex.getMonthDaysWithin(LocalDate.of(2017, 2, 27), 3).toArray()));
+        assertEquals(Arrays.asList(MonthDay.of(2, 28), MonthDay.of(2, 29)),
+                Arrays.asList(BirthdayIndex.getMonthDaysWithin(LocalDate.of(2016, 2, 28), 2).toArray()));
+        assertEquals(366, BirthdayIndex.getMonthDaysWithin(LocalDate.of(2017, 1, 1), Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void using_sameResultsAsPredicate() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withBirthday("31/12/1990").build());
+        addressBook.addPerson(new PersonBuilder().withName("Ben").withBirthday("01/01/1991").build());
+        addressBook.addPerson(new PersonBuilder().withName("Cal").withBirthday("29/02/1992").build());
+        addressBook.addPerson(new PersonBuilder().withName("Dee").withBirthday("15/06/1993").build());
+
+        CheckBirthdays checker = new CheckBirthdays(LocalDate.of(2017, 12, 31), 2);
+        assertEquals(Arrays.asList("Amy", "Ben"), names(addressBook, checker));
+        assertEquals(names(addressBook, checker), names(addressBook, checker.using(addressBook.getBirthdayIndex())));
+
+        checker = new CheckBirthdays(LocalDate.of(2017, 2, 28), 1);
+        assertEquals(Collections.singletonList("Cal"),
+                names(addressBook, checker.using(addressBook.getBirthdayIndex())));
+    }
+
+    @Test
+    public void using_personsChangedAfterLookup_indexFollowsList() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        ReadOnlyPerson amy = new PersonBuilder().withName("Amy").withBirthday("01/05/1990").build();
+        addressBook.addPerson(amy);
+        CheckBirthdays checker = new CheckBirthdays(LocalDate.of(2017, 5, 1), 1);
+        Predicate<ReadOnlyPerson> indexed = checker.using(addressBook.getBirthdayIndex());
+
+        addressBook.addPerson(new PersonBuilder().withName("Ben").withBirthday("01/05/1991").build());
+        assertEquals(Arrays.asList("Amy", "Ben"), names(addressBook, indexed));
+
+        addressBook.removePerson(amy);
+        assertEquals(Collections.singletonList("Ben"),
+                names(addressBook, checker.using(addressBook.getBirthdayIndex())));
+        assertEquals(1, addressBook.getBirthdayIndex().getPersonsBornOn(
+                Collections.singletonList(MonthDay.of(5, 1))).size());
+    }
+
+    private static List<String> names(AddressBook addressBook, Predicate<ReadOnlyPerson> filter) {
+        return addressBook.getPersonList().stream().filter(filter)
+                .map(person -> person.getName().fullName).collect(Collectors.toList());
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.MonthDay;
+import java.util.Optional;
+
 import org.junit.Test;
 
 //@@author hymss
@@ -22,4 +26,13 @@ public class BirthdayTest {
         assertTrue(Birthday.isValidBirthday("11/11/1993")); // DD/MM/YYYY
         assertTrue(Birthday.isValidBirthday("11/11/93"));   // DD/MM/YY
     }
+
+    //@@author
+    @Test
+    public void getMonthDay() throws Exception {
+        assertEquals(Optional.of(MonthDay.of(11, 1)), new Birthday("01/11/1993").getMonthDay());
+        assertEquals(Optional.of(MonthDay.of(2, 29)), new Birthday("29.2.96").getMonthDay());
+        assertEquals(Optional.of(MonthDay.of(12, 3)), new Birthday(" 3-12-2000").getMonthDay());
+        assertEquals(Optional.empty(), new Birthday(0).getMonthDay());
+    }
 }
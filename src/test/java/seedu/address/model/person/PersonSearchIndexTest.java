@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class PersonSearchIndexTest {
+
+    private static final List<List<String>> QUERIES = Arrays.asList(
+            Collections.emptyList(),
+            Collections.singletonList("Meier"),
+            Collections.singletonList("mei"),
+            Arrays.asList("alice", "KURZ"),
+            Collections.singletonList("friends"),
+            Collections.singletonList("9482"),
+            Collections.singletonList("anna@"),
+            Collections.singletonList("street"),
+            Arrays.asList("wall", "street"),
+            Collections.singletonList("th"),
+            Collections.singletonList("nobody"));
+
+    @Test
+    public void find_sameResultsAsPredicate() {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        for (List<String> keywords : QUERIES) {
+            PersonHasKeywordsPredicate predicate = new PersonHasKeywordsPredicate(keywords, false);
+            assertEquals(keywords.toString(), filter(addressBook, predicate),
+                    filter(addressBook, predicate.using(addressBook.getPersonSearchIndex())));
+        }
+    }
+
+    @Test
+    public void find_afterUpdateAndRemove_indexFollowsList() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        ReadOnlyPerson edited = new PersonBuilder(TypicalPersons.ALICE).withName("Zelda Pauline")
+                .withEmail("zelda@example.com").build();
+        addressBook.updatePerson(TypicalPersons.ALICE, edited);
+        addressBook.removePerson(TypicalPersons.BENSON);
+
+        PersonSearchIndex index = addressBook.getPersonSearchIndex();
+        assertTrue(index.find(Collections.singletonList("alice")).isEmpty());
+        assertEquals(1, index.find(Collections.singletonList("zel")).size());
+        assertFalse(index.find(Collections.singletonList("meier")).stream()
+                .anyMatch(person -> person.getName().equals(TypicalPersons.BENSON.getName())));
+    }
+
+    @Test
+    public void using_personAddedAfterLookup_testedAgainstPredicate() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        PersonHasKeywordsPredicate predicate = new PersonHasKeywordsPredicate(Collections.singletonList("Hoon"),
+                false);
+        Predicate<ReadOnlyPerson> indexedPredicate = predicate.using(addressBook.getPersonSearchIndex());
+        assertTrue(filter(addressBook, indexedPredicate).isEmpty());
+
+        addressBook.addPerson(TypicalPersons.HOON);
+        assertEquals(Collections.singletonList(TypicalPersons.HOON), filter(addressBook, indexedPredicate));
+    }
+
+    private static List<ReadOnlyPerson> filter(AddressBook addressBook, Predicate<ReadOnlyPerson> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskTimeIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2017, 11, 1, 12, 0);
+
+    private UniqueTaskList taskList;
+    private TaskTimeIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        taskList = new UniqueTaskList();
+        taskList.setTasks(Arrays.asList(
+                new TaskBuilder().withHeader("Pay rent").withEndTime(NOW.minusDays(1)).build(),
+                new TaskBuilder().withHeader("Camp").withStartTime(NOW.minusDays(2))
+                        .withEndTime(NOW.plusDays(2)).build(),
+                new TaskBuilder().withHeader("Dentist").withEndTime(NOW.plusDays(3)).build(),
+                new TaskBuilder().withHeader("Exam").withStartTime(NOW.plusDays(10))
+                        .withEndTime(NOW.plusDays(10).plusHours(2)).build(),
+                new TaskBuilder().withHeader("Done").withCompletionStatus()
+                        .withEndTime(NOW.plusDays(1)).build(),
+                new TaskBuilder().withHeader("Someday").build()));
+        index = taskList.getTimeIndex();
+    }
+
+    @Test
+    public void getTasksBetween_inclusiveRange_returnsTasksInTimeOrder() {
+        assertEquals(Arrays.asList("Camp", "Pay rent", "Dentist"),
+                headers(index.getTasksBetween(NOW.minusDays(2), NOW.plusDays(3))));
+        assertTrue(index.getTasksBetween(NOW.plusDays(3), NOW).isEmpty());
+    }
+
+    @Test
+    public void getTasksOverlapping_eventStartedBeforeRange_included() {
+        assertEquals(Arrays.asList("Camp", "Dentist"), headers(index.getTasksOverlapping(NOW, NOW.plusDays(7))));
+        assertEquals(Collections.singletonList("Exam"),
+                headers(index.getTasksOverlapping(NOW.plusDays(10).plusHours(1), NOW.plusDays(11))));
+    }
+
+    @Test
+    public void getNextTasks_limitedToCount() {
+        assertEquals(Arrays.asList("Dentist", "Exam"), headers(index.getNextTasks(NOW, 5)));
+        assertEquals(Collections.singletonList("Dentist"), headers(index.getNextTasks(NOW, 1)));
+    }
+
+    @Test
+    public void getOverdueAndUpcomingTasks_consistentWithTask() {
+        assertEquals(Arrays.asList("Camp", "Pay rent"), headers(index.getOverdueTasks(NOW)));
+        assertEquals(Collections.singletonList("Dentist"), headers(index.getUpcomingTasks(NOW)));
+
+        LocalDateTime realNow = LocalDateTime.now();
+        for (ReadOnlyTask task : taskList.asObservableList()) {
+            assertEquals(task.isOverdue(), index.getOverdueTasks(realNow).contains(task));
+        }
+    }
+
+    @Test
+    public void listChanges_indexFollowsList() throws Exception {
+        ReadOnlyTask dentist = taskList.asObservableList().get(2);
+        taskList.setCompletion(dentist);
+        assertTrue(index.getUpcomingTasks(NOW).isEmpty());
+
+        ReadOnlyTask camp = taskList.asObservableList().get(1);
+        taskList.remove(camp);
+        assertEquals(Collections.singletonList("Pay rent"), headers(index.getOverdueTasks(NOW)));
+        assertTrue(index.getTasksOverlapping(NOW, NOW.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void getTasksOverlapping_manyTasksAddedAndRemoved_matchesScan() throws Exception {
+        TaskTimeIndex manyIndex = new TaskTimeIndex();
+        List<ReadOnlyTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = NOW.plusHours((i * 37) % 101);
+            ReadOnlyTask task = new TaskBuilder().withHeader("Task " + i).withStartTime(start)
+                    .withEndTime(start.plusHours(i % 7 == 0 ? 100 : i % 5)).build();
+            tasks.add(task);
+            manyIndex.add(task);
+        }
+        for (int i = 0; i < tasks.size(); i += 3) {
+            manyIndex.remove(tasks.get(i));
+        }
+
+        for (int hour = 0; hour < 210; hour += 9) {
+            LocalDateTime from = NOW.plusHours(hour);
+            LocalDateTime to = from.plusHours(4);
+            Set<ReadOnlyTask> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < tasks.size(); i++) {
+                ReadOnlyTask task = tasks.get(i);
+                if (i % 3 != 0 && !task.getStartDateTime().get().isAfter(to)
+                        && !task.getEndDateTime().get().isBefore(from)) {
+                    expected.add(task);
+                }
+            }
+            List<ReadOnlyTask> overlapping = manyIndex.getTasksOverlapping(from, to);
+            assertEquals(expected.size(), overlapping.size());
+            assertTrue(expected.containsAll(overlapping));
+        }
+    }
+
+    private static List<String> headers(List<ReadOnlyTask> tasks) {
+        return tasks.stream().map(task -> task.getHeader().header).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentVectorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_elementsInOrder() {
+        assertTrue(PersistentVector.of(Collections.emptyList()).isEmpty());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), PersistentVector.of(Arrays.asList(1, 2, 3, 4, 5)).asList());
+    }
+
+    @Test
+    public void updates_previousVersionUnchanged() {
+        PersistentVector<String> original = PersistentVector.of(Arrays.asList("a", "b", "c"));
+
+        PersistentVector<String> updated = original.set(1, "x").add(0, "y").remove(3).add("z");
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.asList());
+        assertEquals(Arrays.asList("y", "a", "x", "z"), updated.asList());
+    }
+
+    @Test
+    public void randomUpdates_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                vector = vector.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            }
+        }
+        assertEquals(expected, vector.asList());
+        assertEquals(expected.size(), vector.size());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentVector.of(Arrays.asList(1, 2)).get(2);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentVector.empty().add(null);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final long LONG_DELAY = 60000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AddressBookStorageSpy storage = new AddressBookStorageSpy();
+    private final List<Exception> failures = new ArrayList<>();
+    private AsyncAddressBookSaver saver;
+
+    @After
+    public void tearDown() {
+        if (saver != null) {
+            saver.close();
+        }
+    }
+
+    @Test
+    public void flush_burstOfChanges_savedOnceWithAllChanges() throws Exception {
+        saver = new AsyncAddressBookSaver(storage, LONG_DELAY, LONG_DELAY, failures::add);
+        AddressBook addressBook = new AddressBook();
+
+        AddressBookDelta first = addressBook.beginDelta();
+        addressBook.addPerson(ALICE);
+        addressBook.endDelta(first);
+        saver.submit(addressBook.snapshot(), first);
+        AddressBookDelta second = addressBook.beginDelta();
+        addressBook.addPerson(BENSON);
+        addressBook.endDelta(second);
+        ReadOnlyAddressBook latest = addressBook.snapshot();
+        saver.submit(latest, second);
+        assertEquals(2, saver.getQueueDepth());
+
+        saver.flush();
+
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertSame(latest, storage.savedAddressBooks.get(0));
+        assertEquals(2, storage.savedChanges.get(0).size());
+        assertEquals(0, saver.getQueueDepth());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void submit_changesUnknown_savedWithoutChanges() {
+        saver = new AsyncAddressBookSaver(storage, LONG_DELAY, LONG_DELAY, failures::add);
+
+        saver.submit(new AddressBook(), new AddressBookDelta());
+        saver.submit(new AddressBook(), null);
+        saver.flush();
+
+        assertEquals(1, storage.savedChanges.size());
+        assertNull(storage.savedChanges.get(0));
+    }
+
+    @Test
+    public void submit_continuousChanges_savedWithinMaxSaveDelay() throws Exception {
+        saver = new AsyncAddressBookSaver(storage, LONG_DELAY, 50, failures::add);
+
+        saver.submit(new AddressBook(), new AddressBookDelta());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (storage.savedAddressBooks.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void flush_saveFails_failureReported() {
+        storage.isFailing = true;
+        saver = new AsyncAddressBookSaver(storage, LONG_DELAY, LONG_DELAY, failures::add);
+
+        saver.submit(new AddressBook(), new AddressBookDelta());
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertEquals(0, saver.getQueueDepth());
+    }
+
+    @Test(timeout = 5000)
+    public void close_pendingChanges_savedAndWriterStopped() {
+        saver = new AsyncAddressBookSaver(storage, LONG_DELAY, LONG_DELAY, failures::add);
+        ReadOnlyAddressBook addressBook = new AddressBook();
+
+        saver.submit(addressBook, new AddressBookDelta());
+        saver.close();
+
+        assertEquals(Collections.singletonList(addressBook), storage.savedAddressBooks);
+        assertEquals(0, saver.getQueueDepth());
+        saver.close(); // closing again does nothing
+    }
+
+    @Test
+    public void submit_closed_throwsIllegalStateException() {
+        saver = new AsyncAddressBookSaver(storage, LONG_DELAY, LONG_DELAY, failures::add);
+        saver.close();
+
+        thrown.expect(IllegalStateException.class);
+        saver.submit(new AddressBook(), new AddressBookDelta());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save.
+     */
+    private static class AddressBookStorageSpy extends XmlAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+        private final List<AddressBookDelta> savedChanges = new ArrayList<>();
+        private volatile boolean isFailing = false;
+
+        AddressBookStorageSpy() {
+            super("dummy");
+        }
+
+        @Override
+        public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta changes)
+                throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            savedAddressBooks.add(addressBook);
+            savedChanges.add(changes);
+        }
+    }
+}
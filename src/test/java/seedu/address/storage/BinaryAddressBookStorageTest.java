@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithAllData;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "NonExistentFile.bin";
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.bin";
+        AddressBook original = getAddressBookWithAllData();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getTagList(), readBack.getTagList());
+        assertEquals(original.getAliasTokenList(), readBack.getAliasTokenList());
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        new XmlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.bin";
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(new File(filePath).toPath());
+        Files.write(new File(filePath).toPath(), Arrays.copyOf(snapshot, snapshot.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_corruptStringLength_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.bin";
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(new File(filePath).toPath());
+        // the length of the first string comes after the magic number, the version and the string count
+        ByteBuffer.wrap(snapshot).putInt(3 * Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(new File(filePath).toPath(), snapshot);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameXml() throws Exception {
+        String xmlFilePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        String binaryFilePath = BinaryAddressBookStorage.getSnapshotFilePath(xmlFilePath);
+        String convertedFilePath = testFolder.getRoot().getPath() + "ConvertedAddressBook.xml";
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(getAddressBookWithAllData());
+
+        AddressBookFileConverter.convertXmlToBinary(xmlFilePath, binaryFilePath);
+        AddressBookFileConverter.convertBinaryToXml(binaryFilePath, convertedFilePath);
+
+        assertArrayEquals(Files.readAllBytes(new File(xmlFilePath).toPath()),
+                Files.readAllBytes(new File(convertedFilePath).toPath()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage("SomeFile.bin").saveAddressBook(null);
+    }
+}
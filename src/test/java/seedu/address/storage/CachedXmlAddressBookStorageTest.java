@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+
+public class CachedXmlAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void close_afterSave_imageWrittenAndReadFromImage() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+        CachedXmlAddressBookStorage storage = new CachedXmlAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertFalse(storage.isImageUpToDate(filePath));
+
+        storage.close();
+        assertTrue(storage.isImageUpToDate(filePath));
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void close_imageCannotBeWritten_oldImageDeleted() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        CachedXmlAddressBookStorage storage = new CachedXmlAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+        File imageFile = new File(CachedXmlAddressBookStorage.getImageFilePath(filePath));
+        assertTrue(imageFile.exists());
+
+        // the temporary image file cannot be created where a directory is
+        File tempImageFile = new File(imageFile.getPath() + ".tmp");
+        assertTrue(tempImageFile.mkdir());
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        storage = new CachedXmlAddressBookStorage(filePath);
+        storage.saveAddressBook(changed);
+        storage.close();
+
+        assertFalse(imageFile.exists());
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_xmlChanged_readFromXmlAndImageRebuilt() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        CachedXmlAddressBookStorage storage = new CachedXmlAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // the xml file is replaced without the image, as by a hand edit
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.removePerson(ALICE);
+        replacement.addPerson(HOON);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+        assertFalse(storage.isImageUpToDate(filePath));
+
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+        assertImageUpToDateEventually(storage, filePath);
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedImage_readFromXml() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+        CachedXmlAddressBookStorage storage = new CachedXmlAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Files.write(new File(CachedXmlAddressBookStorage.getImageFilePath(filePath)).toPath(),
+                "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertImageUpToDateEventually(storage, filePath);
+    }
+
+    /**
+     * Asserts that the image of the xml file at {@code filePath} is rebuilt within a few seconds.
+     */
+    private void assertImageUpToDateEventually(CachedXmlAddressBookStorage storage, String filePath)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!storage.isImageUpToDate(filePath) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(storage.isImageUpToDate(filePath));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.Compression.Codec;
+
+public class CompressionTest {
+
+    private static final byte[] XML = "<?xml version=\"1.0\"?><addressbook/>".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void fromName_unknownCodec_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        Compression.fromName("zip", -1);
+    }
+
+    @Test
+    public void fromName_invalidLevel_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        Compression.fromName("gzip", 10);
+    }
+
+    @Test
+    public void compressAndDecompress_eachCodec_sameBytesAndCodecDetected() throws Exception {
+        for (Codec codec : Codec.values()) {
+            byte[] compressed = compress(Compression.fromName(codec.name(), 9), XML);
+
+            assertEquals(codec, Compression.detect(new ByteArrayInputStream(compressed)));
+            assertArrayEquals(XML, readAll(Compression.decompress(new ByteArrayInputStream(compressed))));
+        }
+    }
+
+    @Test
+    public void detect_uncompressedFormats_noCodec() throws Exception {
+        for (String start : new String[] {"<?xml", "{\n", "ABSS", "sections 1", "", "x"}) {
+            byte[] bytes = start.getBytes(StandardCharsets.UTF_8);
+            assertEquals(Codec.NONE, Compression.detect(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_gzipXml_readByUncompressedStorage() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+
+        new XmlAddressBookStorage(filePath, Compression.fromName("gzip", -1)).saveAddressBook(original);
+
+        assertEquals(Codec.GZIP, detectFile(filePath));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressedStorages_readBack() throws Exception {
+        String folder = testFolder.getRoot().getPath();
+        Compression deflate = Compression.fromName("deflate", 1);
+        AddressBook original = getTypicalAddressBook();
+        AddressBookStorage[] storages = {
+            new CachedXmlAddressBookStorage(folder + "Cached.xml", deflate),
+            new JournaledAddressBookStorage(folder + "Journaled.xml", deflate),
+            new BinaryAddressBookStorage(folder + "Binary.bin", deflate),
+            new SectionedAddressBookStorage(folder + "Sectioned.sections", deflate),
+            new JsonAddressBookStorage(folder + "Json.json", deflate)
+        };
+
+        for (AddressBookStorage storage : storages) {
+            storage.saveAddressBook(original);
+            storage.close();
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        }
+        assertEquals(Codec.DEFLATE, detectFile(folder + "Binary.bin"));
+        assertEquals(Codec.DEFLATE, detectFile(folder + "Json.json"));
+    }
+
+    /**
+     * Returns {@code data} compressed with {@code compression}.
+     */
+    private static byte[] compress(Compression compression, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression.compress(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the bytes {@code in} has left.
+     */
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+            bytes.write(buffer, 0, count);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Codec detectFile(String filePath) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(filePath))) {
+            return Compression.detect(in);
+        }
+    }
+}
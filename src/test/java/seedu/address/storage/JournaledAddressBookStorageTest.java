@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.alias.AliasToken;
+import seedu.address.model.alias.Keyword;
+import seedu.address.model.alias.Representation;
+import seedu.address.model.task.Header;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "NonExistentFile.xml";
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesJournaled_baseUnchangedAndChangesReadBack() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        byte[] base = Files.readAllBytes(new File(filePath).toPath());
+
+        AddressBookDelta delta = original.beginDelta();
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.pinPerson(BENSON);
+        original.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("colleagues").build());
+        original.sortList("phone");
+        original.addAliasToken(new AliasToken(new Keyword("ph"), new Representation("Public Holiday\nand more")));
+        original.addTask(new Task(new Header("Lunch")));
+        original.markTask(new Task(new Header("Lunch")));
+        original.endDelta(delta);
+        storage.saveAddressBookChanges(original, delta);
+
+        assertArrayEquals(base, Files.readAllBytes(new File(filePath).toPath()));
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getAliasTokenList(), readBack.getAliasTokenList());
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+        assertTrue(readBack.getTaskList().get(0).isCompleted());
+    }
+
+    @Test
+    public void readAddressBook_uncommittedChanges_ignored() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        // an append interrupted before its commit line
+        Files.write(new File(JournaledAddressBookStorage.getJournalFilePath(filePath)).toPath(),
+                "removeTask\t<task>".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the next save starts a new journal instead of appending after the interrupted changes
+        AddressBookDelta delta = original.beginDelta();
+        original.removePerson(ALICE);
+        original.endDelta(delta);
+        storage.saveAddressBookChanges(original, delta);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherBase_ignored() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBookDelta delta = original.beginDelta();
+        original.removePerson(ALICE);
+        original.endDelta(delta);
+        storage.saveAddressBookChanges(original, delta);
+
+        // the base is replaced without the journal, as by a hand edit
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(HOON);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalLargerThanBase_compacted() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        File baseFile = new File(filePath);
+        File journalFile = new File(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(original);
+
+        for (int i = 0; i < 30; i++) {
+            AddressBookDelta delta = original.beginDelta();
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+            original.endDelta(delta);
+            storage.saveAddressBookChanges(original, delta);
+            assertTrue(journalFile.length() <= baseFile.length());
+        }
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(new File(JournaledAddressBookStorage.getJournalFilePath(filePath)).toPath(),
+                "removeTask\t<task>\ncommit\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        new JournaledAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournaledAddressBookStorage("SomeFile.xml").saveAddressBook(null);
+    }
+}
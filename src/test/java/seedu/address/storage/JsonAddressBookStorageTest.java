@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalAddressBooks.getAddressBookWithAllData;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "NonExistentFile.json";
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.json";
+        AddressBook original = getAddressBookWithAllData();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getTagList(), readBack.getTagList());
+        assertEquals(original.getAliasTokenList(), readBack.getAliasTokenList());
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        new XmlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.json";
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] json = Files.readAllBytes(new File(filePath).toPath());
+        Files.write(new File(filePath).toPath(), Arrays.copyOf(json, json.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void convert_xmlToJsonAndBack_sameXml() throws Exception {
+        String xmlFilePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        String jsonFilePath = JsonAddressBookStorage.getJsonFilePath(xmlFilePath);
+        String convertedFilePath = testFolder.getRoot().getPath() + "ConvertedAddressBook.xml";
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(getAddressBookWithAllData());
+
+        AddressBookFileConverter.convertXmlToJson(xmlFilePath, jsonFilePath);
+        AddressBookFileConverter.convertJsonToXml(jsonFilePath, convertedFilePath);
+
+        assertArrayEquals(Files.readAllBytes(new File(xmlFilePath).toPath()),
+                Files.readAllBytes(new File(convertedFilePath).toPath()));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_skipped() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.json";
+        Files.write(new File(filePath).toPath(), ("{\"version\": {\"major\": 1}, \"tags\": [\"friends\"],"
+                + " \"tasks\": [{\"header\": \"Lunch\", \"isCompleted\": true, \"note\": [1, 2]}]}")
+                .getBytes(StandardCharsets.UTF_8));
+
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        assertEquals(1, readBack.getTagList().size());
+        assertEquals(1, readBack.getTaskList().size());
+        assertTrue(readBack.getTaskList().get(0).isCompleted());
+    }
+
+    @Test
+    public void readAddressBook_missingRequiredField_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.json";
+        Files.write(new File(filePath).toPath(), "{\"persons\": [{\"name\": \"Alice\"}]}"
+                .getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JsonAddressBookStorage("SomeFile.json").saveAddressBook(null);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.task.Header;
+import seedu.address.model.task.Task;
+import seedu.address.storage.SectionedAddressBookStorage.Section;
+
+public class SectionedAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "NonExistentFile.sections";
+        assertFalse(new SectionedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.sections";
+        AddressBook original = getTypicalAddressBook();
+        original.addTask(new Task(new Header("Lunch")));
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(new SectionedAddressBookStorage(filePath).readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void saveAddressBookChanges_taskChanged_onlyTaskSectionWritten() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.sections";
+        AddressBook original = getTypicalAddressBook();
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        AddressBookDelta delta = original.beginDelta();
+        original.addTask(new Task(new Header("Lunch")));
+        original.endDelta(delta);
+        storage.saveAddressBookChanges(original, delta);
+
+        assertTrue(getSectionFile(filePath, Section.PERSONS, 1).exists());
+        assertTrue(getSectionFile(filePath, Section.TAGS, 1).exists());
+        assertTrue(getSectionFile(filePath, Section.TASKS, 2).exists());
+        assertFalse(getSectionFile(filePath, Section.TASKS, 1).exists());
+        assertEquals(original, new AddressBook(new SectionedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingSections_newVersionsWritten() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.sections";
+        new SectionedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // a new storage saving without reading first must not overwrite the sections in the manifest
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        new SectionedAddressBookStorage(filePath).saveAddressBook(changed);
+
+        assertTrue(getSectionFile(filePath, Section.PERSONS, 2).exists());
+        assertFalse(getSectionFile(filePath, Section.PERSONS, 1).exists());
+        assertEquals(changed, new AddressBook(new SectionedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingSection_throwsDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.sections";
+        new SectionedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(getSectionFile(filePath, Section.TASKS, 1).delete());
+
+        thrown.expect(DataConversionException.class);
+        new SectionedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    private File getSectionFile(String filePath, Section section, long version) {
+        return new File(SectionedAddressBookStorage.getSectionFilePath(filePath, section, version));
+    }
+}
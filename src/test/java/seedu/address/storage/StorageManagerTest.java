@@ -82,6 +82,34 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleAddressBookChangedEvent_backgroundSave_savedOnFlush() throws Exception {
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60000, 60000);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(original.snapshot()));
+        storage.flushAddressBook();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void close_backgroundSave_savedAndLaterChangesSavedRightAway() throws Exception {
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60000, 60000);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(original.snapshot()));
+        storage.close();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        AddressBook changed = new AddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(changed.snapshot()));
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
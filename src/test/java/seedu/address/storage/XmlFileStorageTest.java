@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.alias.AliasToken;
+import seedu.address.model.alias.Keyword;
+import seedu.address.model.alias.Representation;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Header;
+import seedu.address.model.task.Task;
+
+public class XmlFileStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveAddressBookToFile_sameAsJaxb() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addAliasToken(new AliasToken(new Keyword("ph"), new Representation("a\tb\r\nc <d> & \"e\"")));
+        addressBook.addTask(new Task(new Header("Lunch")));
+        addressBook.addTask(new Task(new Header("Trip"), Optional.of(LocalDateTime.of(2017, 11, 1, 9, 0)),
+                Optional.of(LocalDateTime.of(2017, 11, 3, 18, 30))));
+
+        assertSameAsJaxb(addressBook);
+        assertSameAsJaxb(new AddressBook());
+    }
+
+    @Test
+    public void loadAddressBookFromFile_jaxbFile_sameAsJaxb() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addAliasToken(new AliasToken(new Keyword("ph"), new Representation("Public <Holiday>\r\n")));
+        addressBook.addTask(new Task(new Header("Trip"), Optional.of(LocalDateTime.of(2017, 11, 1, 9, 0))));
+        File file = testFolder.newFile();
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+
+        AddressBook expected = new AddressBook(XmlFileStorage.loadDataFromSaveFile(file));
+        AddressBook actual = new AddressBook(XmlFileStorage.loadAddressBookFromFile(file));
+        assertEquals(expected, actual);
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getTagList(), actual.getTagList());
+        assertEquals(expected.getAliasTokenList(), actual.getAliasTokenList());
+        assertEquals(expected.getTaskList(), actual.getTaskList());
+    }
+
+    @Test
+    public void loadAddressBookFromFile_unknownElements_skipped() throws Exception {
+        File file = testFolder.newFile();
+        Files.write(file.toPath(), ("<addressbook><extra><tags>ignored</tags></extra>"
+                + "<tags>friends<!-- comment --></tags><tags>colleagues</tags></addressbook>")
+                .getBytes(StandardCharsets.UTF_8));
+
+        AddressBook expected = new AddressBook();
+        expected.addTag(new Tag("friends"));
+        expected.addTag(new Tag("colleagues"));
+        assertEquals(expected.getTagList(), XmlFileStorage.loadAddressBookFromFile(file).getTagList());
+    }
+
+    @Test
+    public void loadAddressBookFromFile_invalidPerson_throwsDataConversionException() throws Exception {
+        File file = testFolder.newFile();
+        Files.write(file.toPath(), "<addressbook><persons><name>Alice</name></persons></addressbook>"
+                .getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        XmlFileStorage.loadAddressBookFromFile(file);
+    }
+
+    /**
+     * Asserts that {@code addressBook} is saved to the same bytes as by JAXB.
+     */
+    private void assertSameAsJaxb(AddressBook addressBook) throws Exception {
+        File jaxbFile = testFolder.newFile();
+        File streamedFile = testFolder.newFile();
+        XmlFileStorage.saveDataToFile(jaxbFile, new XmlSerializableAddressBook(addressBook));
+        XmlFileStorage.saveAddressBookToFile(streamedFile, addressBook);
+        assertArrayEquals(Files.readAllBytes(jaxbFile.toPath()), Files.readAllBytes(streamedFile.toPath()));
+    }
+}
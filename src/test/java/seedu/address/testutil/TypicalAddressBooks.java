@@ -0,0 +1,45 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.alias.AliasToken;
+import seedu.address.model.alias.Keyword;
+import seedu.address.model.alias.Representation;
+import seedu.address.model.task.Header;
+import seedu.address.model.task.Task;
+
+/**
+ * A utility class containing {@code AddressBook} objects to be used in tests.
+ */
+public class TypicalAddressBooks {
+
+    private TypicalAddressBooks() {
+    } // prevents instantiation
+
+    /**
+     * Returns the typical address book with an alias token and tasks added, so that every kind of data is present.
+     * The tasks have fixed last updated times, so that the address book is the same whenever it is built.
+     */
+    public static AddressBook getAddressBookWithAllData() {
+        AddressBook addressBook = getTypicalAddressBook();
+        try {
+            addressBook.addAliasToken(new AliasToken(new Keyword("ph"), new Representation("Public Holiday \u00e9")));
+            Task lunch = new Task(new Header("Lunch"));
+            lunch.setComplete();
+            lunch.setLastUpdatedTime(LocalDateTime.of(2017, 10, 30, 12, 0));
+            addressBook.addTask(lunch);
+            Task trip = new Task(new Header("Trip"), Optional.of(LocalDateTime.of(2017, 11, 1, 9, 0)),
+                    Optional.of(LocalDateTime.of(2017, 11, 3, 18, 30)));
+            trip.setLastUpdatedTime(LocalDateTime.of(2017, 10, 31, 8, 15));
+            addressBook.addTask(trip);
+        } catch (IllegalValueException ive) {
+            assert false : "not possible";
+        }
+        return addressBook;
+    }
+}
@@ -65,6 +65,13 @@ public class EventsCollectorRule implements TestRule {
             return events.size();
         }
 
+        /**
+         * Returns the number of collected events of type {@code eventClass}
+         */
+        public int getSize(Class<? extends BaseEvent> eventClass) {
+            return (int) events.stream().filter(eventClass::isInstance).count();
+        }
+
         /**
          * Returns the most recent event collected
          */